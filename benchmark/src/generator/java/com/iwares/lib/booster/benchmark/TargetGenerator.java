@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/generator/java/com/iwares/lib/booster/benchmark/TargetGenerator.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the classes bound by the benchmarks, which have 10 to 1000 annotated
+ * members and are too large to keep in the source tree. The build runs it
+ * before compiling:
+ * 
+ * <pre>
+ * java TargetGenerator.java &lt;output directory&gt; &lt;list file&gt;
+ * </pre>
+ * 
+ * For every size N it writes ViewsN with N &#64;ViewById fields, ListenersN with
+ * N &#64;OnClick methods, ServicesN with N &#64;SystemService fields and ExtrasN
+ * with N &#64;IntentExtra fields. Ids run from 1 to N and extra keys are
+ * "extra0" to "extraN-1".
+ * 
+ * Every class is written twice: into {@link #PACKAGE}, bound by reflection,
+ * and into {@link #GENERATED_PACKAGE}, whose classes the build runs
+ * BinderProcessor on. The list file receives the paths of the latter, one per
+ * line, as an argument file of javac.
+ */
+public class TargetGenerator {
+
+	static final String PACKAGE = "com.iwares.lib.booster.benchmark.target";
+
+	static final String GENERATED_PACKAGE = PACKAGE + ".generated";
+
+	/** Sizes of the classes. 80 is the form of the batched lookup benchmark. */
+	static final int[] SIZES = { 10, 80, 100, 1000 };
+
+	/** Types of service fields, used in turn. Fixtures provides the services. */
+	static final String[] SERVICE_TYPES = {
+		"android.view.LayoutInflater",
+		"android.app.ActivityManager",
+		"android.app.AlarmManager",
+		"android.media.AudioManager",
+		"android.os.PowerManager",
+		"android.os.Vibrator",
+		"android.net.ConnectivityManager",
+		"android.app.NotificationManager",
+	};
+
+	/** Types of extra fields, used in turn. Fixtures puts matching extras. */
+	static final String[] EXTRA_TYPES = {
+		"int",
+		"long",
+		"boolean",
+		"java.lang.String",
+		"int[]",
+		"java.util.ArrayList<java.lang.String>",
+		"android.os.Bundle",
+	};
+
+	public static void main(String[] args) throws IOException {
+		writeAll(args[0], PACKAGE);
+		List<File> generated = writeAll(args[0], GENERATED_PACKAGE);
+		Writer out = new OutputStreamWriter(new FileOutputStream(args[1]), "UTF-8");
+		try {
+			for (File file : generated)
+				out.write("\"" + file.getAbsolutePath().replace('\\', '/') + "\"\n");
+		} finally {
+			out.close();
+		}
+	}
+
+	private static List<File> writeAll(String root, String packageName) throws IOException {
+		File dir = new File(root, packageName.replace('.', File.separatorChar));
+		if (!dir.isDirectory() && !dir.mkdirs())
+			throw new IOException("Failed to create " + dir);
+		List<File> files = new ArrayList<File>();
+		for (int size : SIZES) {
+			files.add(write(dir, packageName, "Views" + size, views(size)));
+			files.add(write(dir, packageName, "Listeners" + size, listeners(size)));
+			files.add(write(dir, packageName, "Services" + size, services(size)));
+			files.add(write(dir, packageName, "Extras" + size, extras(size)));
+		}
+		return files;
+	}
+
+	private static String views(int size) {
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < size; ++i)
+			body.append("\t@com.iwares.lib.booster.annotation.ViewById(" + (i + 1) + ")\n")
+					.append("\tpublic android.view.View mView" + i + ";\n");
+		return body.toString();
+	}
+
+	private static String listeners(int size) {
+		StringBuilder body = new StringBuilder("\tpublic int mClicks;\n");
+		for (int i = 0; i < size; ++i)
+			body.append("\t@com.iwares.lib.booster.annotation.OnClick(" + (i + 1) + ")\n")
+					.append("\tvoid onClick" + i + "(android.view.View view) {\n")
+					.append("\t\t++mClicks;\n")
+					.append("\t}\n");
+		return body.toString();
+	}
+
+	private static String services(int size) {
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < size; ++i)
+			body.append("\t@com.iwares.lib.booster.annotation.SystemService\n")
+					.append("\tpublic " + SERVICE_TYPES[i % SERVICE_TYPES.length] + " mService" + i + ";\n");
+		return body.toString();
+	}
+
+	private static String extras(int size) {
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < size; ++i)
+			body.append("\t@com.iwares.lib.booster.annotation.IntentExtra(\"extra" + i + "\")\n")
+					.append("\tpublic " + EXTRA_TYPES[i % EXTRA_TYPES.length] + " mExtra" + i + ";\n");
+		return body.toString();
+	}
+
+	private static File write(File dir, String packageName, String name, String body) throws IOException {
+		File file = new File(dir, name + ".java");
+		Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			out.write("// Generated by TargetGenerator, do not edit.\n");
+			out.write("package " + packageName + ";\n\n");
+			out.write("public class " + name + " {\n\n");
+			out.write(body);
+			out.write("\n}\n");
+		} finally {
+			out.close();
+		}
+		return file;
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/android/content/Context.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package android.content;
+
+import android.content.res.AssetManager;
+
+/**
+ * Services are whatever the subclass returns from
+ * {@link #getSystemService(String)}.
+ */
+public abstract class Context {
+
+	public static final String CLIPBOARD_SERVICE = "clipboard";
+	public static final String WINDOW_SERVICE = "window";
+	public static final String LAYOUT_INFLATER_SERVICE = "layout_inflater";
+	public static final String ACTIVITY_SERVICE = "activity";
+	public static final String POWER_SERVICE = "power";
+	public static final String ALARM_SERVICE = "alarm";
+	public static final String NOTIFICATION_SERVICE = "notification";
+	public static final String KEYGUARD_SERVICE = "keyguard";
+	public static final String LOCATION_SERVICE = "location";
+	public static final String SEARCH_SERVICE = "search";
+	public static final String SENSOR_SERVICE = "sensor";
+	public static final String VIBRATOR_SERVICE = "vibrator";
+	public static final String CONNECTIVITY_SERVICE = "connectivity";
+	public static final String WIFI_SERVICE = "wifi";
+	public static final String AUDIO_SERVICE = "audio";
+	public static final String TELEPHONY_SERVICE = "telephony";
+	public static final String INPUT_METHOD_SERVICE = "input_method";
+	public static final String ACCESSIBILITY_SERVICE = "accessibility";
+	public static final String ACCOUNT_SERVICE = "account";
+	public static final String WALLPAPER_SERVICE = "wallpaper";
+	public static final String UI_MODE_SERVICE = "ui_mode";
+	public static final String DROPBOX_SERVICE = "dropbox";
+	public static final String DEVICE_POLICY_SERVICE = "device_policy";
+	public static final String STORAGE_SERVICE = "storage";
+	public static final String DOWNLOAD_SERVICE = "download";
+	public static final String NFC_SERVICE = "nfc";
+	public static final String USB_SERVICE = "usb";
+	public static final String WIFI_P2P_SERVICE = "wifi_p2p";
+	public static final String TEXT_SERVICES_MANAGER_SERVICE = "text_services_manager";
+	public static final String NSD_SERVICE = "nsd";
+	public static final String MEDIA_ROUTER_SERVICE = "media_router";
+	public static final String INPUT_SERVICE = "input";
+	public static final String DISPLAY_SERVICE = "display";
+	public static final String USER_SERVICE = "user";
+
+	public abstract Object getSystemService(String name);
+
+	public AssetManager getAssets() {
+		return new AssetManager();
+	}
+
+	public ClassLoader getClassLoader() {
+		return getClass().getClassLoader();
+	}
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/android/content/Intent.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package android.content;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import android.os.Bundle;
+import android.os.Parcelable;
+
+/**
+ * Keeps extras in a map, so that reading them costs about what a Bundle
+ * lookup costs on a device.
+ */
+public class Intent {
+
+	private final HashMap<String, Object> mExtras = new HashMap<String, Object>();
+
+	private Object extra(String name, Object defaultValue) {
+		Object value = mExtras.get(name);
+		return value != null ? value : defaultValue;
+	}
+
+	public boolean hasExtra(String name) {
+		return mExtras.containsKey(name);
+	}
+
+	public boolean getBooleanExtra(String name, boolean defaultValue) {
+		return (Boolean)extra(name, defaultValue);
+	}
+
+	public byte getByteExtra(String name, byte defaultValue) {
+		return (Byte)extra(name, defaultValue);
+	}
+
+	public char getCharExtra(String name, char defaultValue) {
+		return (Character)extra(name, defaultValue);
+	}
+
+	public short getShortExtra(String name, short defaultValue) {
+		return (Short)extra(name, defaultValue);
+	}
+
+	public int getIntExtra(String name, int defaultValue) {
+		return (Integer)extra(name, defaultValue);
+	}
+
+	public long getLongExtra(String name, long defaultValue) {
+		return (Long)extra(name, defaultValue);
+	}
+
+	public float getFloatExtra(String name, float defaultValue) {
+		return (Float)extra(name, defaultValue);
+	}
+
+	public double getDoubleExtra(String name, double defaultValue) {
+		return (Double)extra(name, defaultValue);
+	}
+
+	public boolean[] getBooleanArrayExtra(String name) {
+		return (boolean[])mExtras.get(name);
+	}
+
+	public byte[] getByteArrayExtra(String name) {
+		return (byte[])mExtras.get(name);
+	}
+
+	public char[] getCharArrayExtra(String name) {
+		return (char[])mExtras.get(name);
+	}
+
+	public short[] getShortArrayExtra(String name) {
+		return (short[])mExtras.get(name);
+	}
+
+	public int[] getIntArrayExtra(String name) {
+		return (int[])mExtras.get(name);
+	}
+
+	public long[] getLongArrayExtra(String name) {
+		return (long[])mExtras.get(name);
+	}
+
+	public float[] getFloatArrayExtra(String name) {
+		return (float[])mExtras.get(name);
+	}
+
+	public double[] getDoubleArrayExtra(String name) {
+		return (double[])mExtras.get(name);
+	}
+
+	public String getStringExtra(String name) {
+		return (String)mExtras.get(name);
+	}
+
+	public String[] getStringArrayExtra(String name) {
+		return (String[])mExtras.get(name);
+	}
+
+	public Bundle getBundleExtra(String name) {
+		return (Bundle)mExtras.get(name);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T extends Parcelable> T getParcelableExtra(String name) {
+		return (T)mExtras.get(name);
+	}
+
+	public Serializable getSerializableExtra(String name) {
+		return (Serializable)mExtras.get(name);
+	}
+
+	@SuppressWarnings("unchecked")
+	public ArrayList<String> getStringArrayListExtra(String name) {
+		return (ArrayList<String>)mExtras.get(name);
+	}
+
+	@SuppressWarnings("unchecked")
+	public ArrayList<Integer> getIntegerArrayListExtra(String name) {
+		return (ArrayList<Integer>)mExtras.get(name);
+	}
+
+	private Intent put(String name, Object value) {
+		mExtras.put(name, value);
+		return this;
+	}
+
+	public Intent putExtra(String name, boolean value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, byte value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, char value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, short value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, int value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, long value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, float value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, double value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, boolean[] value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, byte[] value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, char[] value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, short[] value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, int[] value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, long[] value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, float[] value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, double[] value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, String value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, String[] value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, Bundle value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, Parcelable value) {
+		return put(name, value);
+	}
+
+	public Intent putExtra(String name, Serializable value) {
+		return put(name, value);
+	}
+
+	public Intent putStringArrayListExtra(String name, ArrayList<String> value) {
+		return put(name, value);
+	}
+
+	public Intent putIntegerArrayListExtra(String name, ArrayList<Integer> value) {
+		return put(name, value);
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/android/content/res/AssetFileDescriptor.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package android.content.res;
+
+import java.io.FileDescriptor;
+import java.io.IOException;
+
+public class AssetFileDescriptor {
+
+	public FileDescriptor getFileDescriptor() {
+		throw new UnsupportedOperationException();
+	}
+
+	public long getStartOffset() {
+		return 0;
+	}
+
+	public long getLength() {
+		return 0;
+	}
+
+	public void close() throws IOException {
+	}
+
+}
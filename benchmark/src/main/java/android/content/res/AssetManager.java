@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/android/content/res/AssetManager.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package android.content.res;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class AssetManager {
+
+	public AssetFileDescriptor openFd(String fileName) throws IOException {
+		throw new FileNotFoundException(fileName);
+	}
+
+	public InputStream open(String fileName) throws IOException {
+		throw new FileNotFoundException(fileName);
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/android/os/Build.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package android.os;
+
+public class Build {
+
+	public static class VERSION {
+		public static final int SDK_INT = VERSION_CODES.JELLY_BEAN_MR1;
+	}
+
+	public static class VERSION_CODES {
+		public static final int DONUT = 4;
+		public static final int ECLAIR = 5;
+		public static final int ECLAIR_MR1 = 7;
+		public static final int FROYO = 8;
+		public static final int GINGERBREAD = 9;
+		public static final int HONEYCOMB = 11;
+		public static final int HONEYCOMB_MR1 = 12;
+		public static final int HONEYCOMB_MR2 = 13;
+		public static final int ICE_CREAM_SANDWICH = 14;
+		public static final int JELLY_BEAN = 16;
+		public static final int JELLY_BEAN_MR1 = 17;
+		public static final int JELLY_BEAN_MR2 = 18;
+	}
+
+}
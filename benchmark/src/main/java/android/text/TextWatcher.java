@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/android/text/TextWatcher.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package android.text;
+
+public interface TextWatcher {
+
+	void beforeTextChanged(CharSequence s, int start, int count, int after);
+
+	void onTextChanged(CharSequence s, int start, int before, int count);
+
+	void afterTextChanged(Editable s);
+
+}
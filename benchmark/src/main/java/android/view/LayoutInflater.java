@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/android/view/LayoutInflater.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package android.view;
+
+import android.content.Context;
+
+public class LayoutInflater {
+
+	private final Context mContext;
+
+	public LayoutInflater() {
+		this(null);
+	}
+
+	protected LayoutInflater(Context context) {
+		mContext = context;
+	}
+
+	public static LayoutInflater from(Context context) {
+		return new LayoutInflater(context);
+	}
+
+	public LayoutInflater cloneInContext(Context newContext) {
+		return new LayoutInflater(newContext);
+	}
+
+	public View inflate(int resource, ViewGroup root) {
+		return View.inflate(mContext, resource, root);
+	}
+
+}
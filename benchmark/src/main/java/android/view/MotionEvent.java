@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/android/view/MotionEvent.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package android.view;
+
+public class MotionEvent {
+
+	public static final int ACTION_MOVE = 2;
+	public static final int ACTION_MASK = 0xff;
+
+	public static final class PointerCoords {
+	}
+
+	public static MotionEvent obtain(MotionEvent other) {
+		return new MotionEvent();
+	}
+
+	public final void recycle() {
+	}
+
+	public final int getAction() {
+		return 0;
+	}
+
+	public final int getPointerCount() {
+		return 1;
+	}
+
+	public final int getHistorySize() {
+		return 0;
+	}
+
+	public final int getMetaState() {
+		return 0;
+	}
+
+	public final long getEventTime() {
+		return 0;
+	}
+
+	public final long getHistoricalEventTime(int pos) {
+		return 0;
+	}
+
+	public final float getX() {
+		return 0;
+	}
+
+	public final float getY() {
+		return 0;
+	}
+
+	public final float getPressure() {
+		return 0;
+	}
+
+	public final float getSize() {
+		return 0;
+	}
+
+	public final float getHistoricalX(int pos) {
+		return 0;
+	}
+
+	public final float getHistoricalY(int pos) {
+		return 0;
+	}
+
+	public final float getHistoricalPressure(int pos) {
+		return 0;
+	}
+
+	public final float getHistoricalSize(int pos) {
+		return 0;
+	}
+
+	public final void getPointerCoords(int pointerIndex, PointerCoords outPointerCoords) {
+	}
+
+	public final void getHistoricalPointerCoords(int pointerIndex, int pos, PointerCoords outPointerCoords) {
+	}
+
+	public final void addBatch(long eventTime, float x, float y, float pressure, float size, int metaState) {
+	}
+
+	public final void addBatch(long eventTime, PointerCoords[] pointerCoords, int metaState) {
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/android/view/View.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package android.view;
+
+import android.content.Context;
+
+/**
+ * Keeps its id, parent and listeners like a View on a device. Listeners are
+ * readable, so that benchmarks can dispatch events to them.
+ */
+public class View {
+
+	public static final int NO_ID = -1;
+
+	public interface OnClickListener {
+		void onClick(View v);
+	}
+
+	public interface OnLongClickListener {
+		boolean onLongClick(View v);
+	}
+
+	public interface OnTouchListener {
+		boolean onTouch(View v, MotionEvent event);
+	}
+
+	public interface OnFocusChangeListener {
+		void onFocusChange(View v, boolean hasFocus);
+	}
+
+	private final Context mContext;
+
+	private int mId = NO_ID;
+
+	ViewParent mParent;
+
+	public OnClickListener mOnClickListener;
+
+	public OnLongClickListener mOnLongClickListener;
+
+	public OnTouchListener mOnTouchListener;
+
+	public OnFocusChangeListener mOnFocusChangeListener;
+
+	public View(Context context) {
+		mContext = context;
+	}
+
+	public static View inflate(Context context, int resource, ViewGroup root) {
+		View view = new View(context);
+		if (root != null)
+			root.addView(view);
+		return view;
+	}
+
+	public Context getContext() {
+		return mContext;
+	}
+
+	public int getId() {
+		return mId;
+	}
+
+	public void setId(int id) {
+		mId = id;
+	}
+
+	public final ViewParent getParent() {
+		return mParent;
+	}
+
+	public final View findViewById(int id) {
+		if (id < 0)
+			return null;
+		return findViewTraversal(id);
+	}
+
+	protected View findViewTraversal(int id) {
+		return id == mId ? this : null;
+	}
+
+	public void setOnClickListener(OnClickListener l) {
+		mOnClickListener = l;
+	}
+
+	public void setOnLongClickListener(OnLongClickListener l) {
+		mOnLongClickListener = l;
+	}
+
+	public void setOnTouchListener(OnTouchListener l) {
+		mOnTouchListener = l;
+	}
+
+	public void setOnFocusChangeListener(OnFocusChangeListener l) {
+		mOnFocusChangeListener = l;
+	}
+
+	public OnFocusChangeListener getOnFocusChangeListener() {
+		return mOnFocusChangeListener;
+	}
+
+}
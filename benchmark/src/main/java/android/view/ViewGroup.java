@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/android/view/ViewGroup.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package android.view;
+
+import java.util.ArrayList;
+
+import android.content.Context;
+
+public class ViewGroup extends View implements ViewParent {
+
+	private final ArrayList<View> mChildren = new ArrayList<View>();
+
+	public ViewGroup(Context context) {
+		super(context);
+	}
+
+	public void addView(View child) {
+		mChildren.add(child);
+		child.mParent = this;
+	}
+
+	public void removeView(View view) {
+		if (mChildren.remove(view))
+			view.mParent = null;
+	}
+
+	public int getChildCount() {
+		return mChildren.size();
+	}
+
+	public View getChildAt(int index) {
+		return mChildren.get(index);
+	}
+
+	@Override
+	protected View findViewTraversal(int id) {
+		if (id == getId())
+			return this;
+		for (int i = 0, c = mChildren.size(); i < c; ++i) {
+			View view = mChildren.get(i).findViewTraversal(id);
+			if (view != null)
+				return view;
+		}
+		return null;
+	}
+
+}
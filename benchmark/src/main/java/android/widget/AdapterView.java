@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/android/widget/AdapterView.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package android.widget;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+
+public abstract class AdapterView<T> extends ViewGroup {
+
+	public interface OnItemClickListener {
+		void onItemClick(AdapterView<?> parent, View view, int position, long id);
+	}
+
+	public interface OnItemLongClickListener {
+		boolean onItemLongClick(AdapterView<?> parent, View view, int position, long id);
+	}
+
+	public interface OnItemSelectedListener {
+		void onItemSelected(AdapterView<?> parent, View view, int position, long id);
+		void onNothingSelected(AdapterView<?> parent);
+	}
+
+	public OnItemClickListener mOnItemClickListener;
+
+	public OnItemLongClickListener mOnItemLongClickListener;
+
+	public OnItemSelectedListener mOnItemSelectedListener;
+
+	public AdapterView(Context context) {
+		super(context);
+	}
+
+	public void setOnItemClickListener(OnItemClickListener listener) {
+		mOnItemClickListener = listener;
+	}
+
+	public void setOnItemLongClickListener(OnItemLongClickListener listener) {
+		mOnItemLongClickListener = listener;
+	}
+
+	public void setOnItemSelectedListener(OnItemSelectedListener listener) {
+		mOnItemSelectedListener = listener;
+	}
+
+	public final OnItemClickListener getOnItemClickListener() {
+		return mOnItemClickListener;
+	}
+
+	public final OnItemLongClickListener getOnItemLongClickListener() {
+		return mOnItemLongClickListener;
+	}
+
+	public final OnItemSelectedListener getOnItemSelectedListener() {
+		return mOnItemSelectedListener;
+	}
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/android/widget/TextView.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package android.widget;
+
+import android.content.Context;
+import android.text.TextWatcher;
+import android.view.KeyEvent;
+import android.view.View;
+
+public class TextView extends View {
+
+	public interface OnEditorActionListener {
+		boolean onEditorAction(TextView v, int actionId, KeyEvent event);
+	}
+
+	public OnEditorActionListener mOnEditorActionListener;
+
+	public TextView(Context context) {
+		super(context);
+	}
+
+	public void setOnEditorActionListener(OnEditorActionListener l) {
+		mOnEditorActionListener = l;
+	}
+
+	public void addTextChangedListener(TextWatcher watcher) {
+	}
+
+	public void removeTextChangedListener(TextWatcher watcher) {
+	}
+
+}
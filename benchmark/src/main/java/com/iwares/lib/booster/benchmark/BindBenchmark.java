@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/com/iwares/lib/booster/benchmark/BindBenchmark.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import android.content.Context;
+import android.content.Intent;
+import android.view.View;
+
+import com.iwares.lib.booster.core.Booster;
+
+/**
+ * Warm binding: each phase of Booster repeated on a class whose plan is
+ * already cached, for classes with 10, 100 and 1000 annotated members, with
+ * plans built by reflection and plans from generated binders.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BindBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int members;
+
+	@Param({ Fixtures.REFLECTION, Fixtures.GENERATED })
+	public String plan;
+
+	private Object mViews;
+	private Class<?> mViewsClass;
+	private View mViewSource;
+
+	private Object mListeners;
+	private Class<?> mListenersClass;
+	private View mListenerSource;
+
+	private Object mServices;
+	private Class<?> mServicesClass;
+	private Context mContext;
+
+	private Object mExtras;
+	private Class<?> mExtrasClass;
+	private Intent mIntent;
+
+	@Setup
+	public void setUp() {
+		mViews = Fixtures.newTarget("Views", members, plan);
+		mViewsClass = mViews.getClass();
+		mViewSource = Fixtures.tree(members);
+
+		mListeners = Fixtures.newTarget("Listeners", members, plan);
+		mListenersClass = mListeners.getClass();
+		mListenerSource = Fixtures.tree(members);
+
+		mServices = Fixtures.newTarget("Services", members, plan);
+		mServicesClass = mServices.getClass();
+		mContext = Fixtures.context();
+
+		mExtras = Fixtures.newTarget("Extras", members, plan);
+		mExtrasClass = mExtras.getClass();
+		mIntent = Fixtures.intent(members);
+	}
+
+	@Benchmark
+	public Object injectViews() {
+		Booster.injectViews(mViews, mViewsClass, mViewSource);
+		return mViews;
+	}
+
+	@Benchmark
+	public Object registerListeners() {
+		Booster.registerListeners(mListeners, mListenersClass, mListenerSource);
+		return mListeners;
+	}
+
+	@Benchmark
+	public Object bindSystemServices() {
+		Booster.bindSystemServices(mServices, mServicesClass, mContext);
+		return mServices;
+	}
+
+	@Benchmark
+	public Object obtainIntentExtras() {
+		Booster.obtainIntentExtras(mExtras, mExtrasClass, mIntent);
+		return mExtras;
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/com/iwares/lib/booster/benchmark/ColdBindBenchmark.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import android.content.Context;
+import android.content.Intent;
+import android.view.View;
+
+import com.iwares.lib.booster.core.Booster;
+
+/**
+ * Cold binding: the first bind of a class in a fresh JVM, which includes
+ * loading Booster and building the plan of the class, either by scanning its
+ * annotations or through its generated binder. Every fork measures a single
+ * call, so the score is the mean over forks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdBindBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int members;
+
+	@Param({ Fixtures.REFLECTION, Fixtures.GENERATED })
+	public String plan;
+
+	private Object mTarget;
+	private View mViewSource;
+	private Context mContext;
+	private Intent mIntent;
+
+	@Setup
+	public void setUp(BenchmarkParams params) {
+		mViewSource = Fixtures.tree(members);
+		mContext = Fixtures.context();
+		mIntent = Fixtures.intent(members);
+		// Loading the class is not part of binding it.
+		String name = params.getBenchmark();
+		if (name.endsWith("injectViews"))
+			mTarget = Fixtures.newTarget("Views", members, plan);
+		else if (name.endsWith("registerListeners"))
+			mTarget = Fixtures.newTarget("Listeners", members, plan);
+		else if (name.endsWith("bindSystemServices"))
+			mTarget = Fixtures.newTarget("Services", members, plan);
+		else
+			mTarget = Fixtures.newTarget("Extras", members, plan);
+	}
+
+	@Benchmark
+	public Object injectViews() {
+		Booster.injectViews(mTarget, mTarget.getClass(), mViewSource);
+		return mTarget;
+	}
+
+	@Benchmark
+	public Object registerListeners() {
+		Booster.registerListeners(mTarget, mTarget.getClass(), mViewSource);
+		return mTarget;
+	}
+
+	@Benchmark
+	public Object bindSystemServices() {
+		Booster.bindSystemServices(mTarget, mTarget.getClass(), mContext);
+		return mTarget;
+	}
+
+	@Benchmark
+	public Object obtainIntentExtras() {
+		Booster.obtainIntentExtras(mTarget, mTarget.getClass(), mIntent);
+		return mTarget;
+	}
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/com/iwares/lib/booster/benchmark/DispatchBenchmark.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import android.view.KeyEvent;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.AdapterView;
+import android.widget.TextView;
+
+import com.iwares.lib.booster.annotation.OnClick;
+import com.iwares.lib.booster.annotation.OnEditorAction;
+import com.iwares.lib.booster.annotation.OnItemClick;
+import com.iwares.lib.booster.annotation.OnTouch;
+import com.iwares.lib.booster.core.Booster;
+
+/**
+ * Cost of one event delivered through the listeners registered by
+ * {@link Booster#registerListeners(Object, Class, Object)}, next to a
+ * hand-written listener calling the same method. The GC profiler reports the
+ * bytes allocated per event, which should match the hand-written listener.
+ * Target has no generated binder, so this measures the reflective invoker.
+ * It boxes positions and ids, and 500 lies outside the Integer cache of the
+ * JDK, so the invoker's own box caches are measured as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DispatchBenchmark {
+
+	private static final int CLICK = 1;
+	private static final int ITEM_CLICK = 2;
+	private static final int TOUCH = 3;
+	private static final int EDITOR_ACTION = 4;
+
+	public static class Target {
+
+		public int mEvents;
+
+		@OnClick(CLICK)
+		void onClick(View view) {
+			++mEvents;
+		}
+
+		@OnItemClick(ITEM_CLICK)
+		void onItemClick(AdapterView<?> parent, View view, int position, long id) {
+			mEvents += position;
+		}
+
+		@OnTouch(TOUCH)
+		boolean onTouch(View view, MotionEvent event) {
+			++mEvents;
+			return true;
+		}
+
+		@OnEditorAction(EDITOR_ACTION)
+		boolean onEditorAction(TextView view, int actionId, KeyEvent event) {
+			mEvents += actionId;
+			return true;
+		}
+
+	}
+
+	@Param({ "5", "500" })
+	public int position;
+
+	private final Target mTarget = new Target();
+
+	private View mView;
+	private AdapterView<?> mAdapterView;
+	private TextView mTextView;
+	private MotionEvent mEvent;
+	private KeyEvent mKeyEvent;
+
+	private View.OnClickListener mBoundClick;
+	private AdapterView.OnItemClickListener mBoundItemClick;
+	private View.OnTouchListener mBoundTouch;
+	private TextView.OnEditorActionListener mBoundEditorAction;
+
+	private View.OnClickListener mDirectClick;
+	private AdapterView.OnItemClickListener mDirectItemClick;
+	private View.OnTouchListener mDirectTouch;
+	private TextView.OnEditorActionListener mDirectEditorAction;
+
+	@Setup
+	public void setUp() {
+		mView = new View(null);
+		mView.setId(CLICK);
+		mAdapterView = new AdapterView<Object>(null) {
+		};
+		mAdapterView.setId(ITEM_CLICK);
+		View touchView = new View(null);
+		touchView.setId(TOUCH);
+		mTextView = new TextView(null);
+		mTextView.setId(EDITOR_ACTION);
+		ViewGroup root = new ViewGroup(null);
+		root.addView(mView);
+		root.addView(mAdapterView);
+		root.addView(touchView);
+		root.addView(mTextView);
+		mEvent = new MotionEvent();
+		mKeyEvent = new KeyEvent();
+
+		Booster.registerListeners(mTarget, Target.class, root);
+		mBoundClick = mView.mOnClickListener;
+		mBoundItemClick = mAdapterView.mOnItemClickListener;
+		mBoundTouch = touchView.mOnTouchListener;
+		mBoundEditorAction = mTextView.mOnEditorActionListener;
+
+		final Target target = mTarget;
+		mDirectClick = new View.OnClickListener() {
+			@Override
+			public void onClick(View v) {
+				target.onClick(v);
+			}
+		};
+		mDirectItemClick = new AdapterView.OnItemClickListener() {
+			@Override
+			public void onItemClick(AdapterView<?> parent, View view, int position, long id) {
+				target.onItemClick(parent, view, position, id);
+			}
+		};
+		mDirectTouch = new View.OnTouchListener() {
+			@Override
+			public boolean onTouch(View v, MotionEvent event) {
+				return target.onTouch(v, event);
+			}
+		};
+		mDirectEditorAction = new TextView.OnEditorActionListener() {
+			@Override
+			public boolean onEditorAction(TextView v, int actionId, KeyEvent event) {
+				return target.onEditorAction(v, actionId, event);
+			}
+		};
+	}
+
+	@Benchmark
+	public int onClick() {
+		mBoundClick.onClick(mView);
+		return mTarget.mEvents;
+	}
+
+	@Benchmark
+	public int onClickDirect() {
+		mDirectClick.onClick(mView);
+		return mTarget.mEvents;
+	}
+
+	@Benchmark
+	public int onItemClick() {
+		mBoundItemClick.onItemClick(mAdapterView, mView, position, position);
+		return mTarget.mEvents;
+	}
+
+	@Benchmark
+	public int onItemClickDirect() {
+		mDirectItemClick.onItemClick(mAdapterView, mView, position, position);
+		return mTarget.mEvents;
+	}
+
+	@Benchmark
+	public boolean onTouch() {
+		return mBoundTouch.onTouch(mView, mEvent);
+	}
+
+	@Benchmark
+	public boolean onTouchDirect() {
+		return mDirectTouch.onTouch(mView, mEvent);
+	}
+
+	@Benchmark
+	public boolean onEditorAction() {
+		return mBoundEditorAction.onEditorAction(mTextView, position, mKeyEvent);
+	}
+
+	@Benchmark
+	public boolean onEditorActionDirect() {
+		return mDirectEditorAction.onEditorAction(mTextView, position, mKeyEvent);
+	}
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/com/iwares/lib/booster/benchmark/Fixtures.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import android.app.ActivityManager;
+import android.app.AlarmManager;
+import android.app.NotificationManager;
+import android.content.Context;
+import android.content.Intent;
+import android.media.AudioManager;
+import android.net.ConnectivityManager;
+import android.os.Bundle;
+import android.os.PowerManager;
+import android.os.Vibrator;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+/**
+ * Sources, Contexts and Intents matching the classes written by
+ * TargetGenerator.
+ */
+public final class Fixtures {
+
+	static final String TARGETS = "com.iwares.lib.booster.benchmark.target.";
+
+	/** Copies of the targets which have generated binders. */
+	static final String GENERATED_TARGETS = TARGETS + "generated.";
+
+	/** Plans of targets built by scanning their annotations. */
+	public static final String REFLECTION = "reflection";
+
+	/** Plans of targets created by their generated binders. */
+	public static final String GENERATED = "generated";
+
+	private Fixtures() {
+	}
+
+	/**
+	 * Returns the generated class 'kind' + 'size', such as Views100.
+	 */
+	public static Class<?> target(String kind, int size) {
+		return target(kind, size, REFLECTION);
+	}
+
+	/**
+	 * Returns the generated class 'kind' + 'size' whose plan is created by
+	 * 'plan', {@link #REFLECTION} or {@link #GENERATED}.
+	 */
+	public static Class<?> target(String kind, int size, String plan) {
+		try {
+			return Class.forName((GENERATED.equals(plan) ? GENERATED_TARGETS : TARGETS) + kind + size);
+		} catch (ClassNotFoundException e) {
+			throw new RuntimeException("Failed to load target", e);
+		}
+	}
+
+	/**
+	 * Returns a new instance of the generated class 'kind' + 'size'.
+	 */
+	public static Object newTarget(String kind, int size) {
+		return newTarget(kind, size, REFLECTION);
+	}
+
+	/**
+	 * Returns a new instance of the generated class 'kind' + 'size' whose plan
+	 * is created by 'plan'.
+	 */
+	public static Object newTarget(String kind, int size, String plan) {
+		try {
+			return target(kind, size, plan).newInstance();
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to create target", e);
+		}
+	}
+
+	/**
+	 * Builds a tree of 'nodes' Views below a root, in groups of 'fanOut'
+	 * children, and gives ids 1 to 'ids' to Views spread evenly over the tree.
+	 */
+	public static ViewGroup tree(int nodes, int fanOut, int ids) {
+		ViewGroup root = new ViewGroup(null);
+		ArrayList<View> views = new ArrayList<View>(nodes);
+		ViewGroup group = null;
+		for (int i = 0; i < nodes; ++i) {
+			if (group == null || group.getChildCount() == fanOut) {
+				group = new ViewGroup(null);
+				root.addView(group);
+				views.add(group);
+				++i;
+			}
+			View view = new View(null);
+			group.addView(view);
+			views.add(view);
+		}
+		int step = Math.max(1, views.size() / Math.max(1, ids));
+		for (int i = 0; i < ids; ++i)
+			views.get(Math.min(views.size() - 1, i * step + step - 1)).setId(i + 1);
+		return root;
+	}
+
+	/**
+	 * Builds a tree holding a View for every id from 1 to 'size'.
+	 */
+	public static ViewGroup tree(int size) {
+		return tree(size + size / 10 + 1, 10, size);
+	}
+
+	/**
+	 * Returns a Context providing the services used by generated classes.
+	 */
+	public static Context context() {
+		final HashMap<String, Object> services = new HashMap<String, Object>();
+		services.put(Context.LAYOUT_INFLATER_SERVICE, new LayoutInflater());
+		services.put(Context.ACTIVITY_SERVICE, new ActivityManager());
+		services.put(Context.ALARM_SERVICE, new AlarmManager());
+		services.put(Context.AUDIO_SERVICE, new AudioManager());
+		services.put(Context.POWER_SERVICE, new PowerManager());
+		services.put(Context.VIBRATOR_SERVICE, new Vibrator());
+		services.put(Context.CONNECTIVITY_SERVICE, new ConnectivityManager());
+		services.put(Context.NOTIFICATION_SERVICE, new NotificationManager());
+		return new Context() {
+			@Override
+			public Object getSystemService(String name) {
+				return services.get(name);
+			}
+		};
+	}
+
+	/**
+	 * Returns an Intent with every extra of the generated Extras class of
+	 * 'size'.
+	 */
+	public static Intent intent(int size) {
+		Intent intent = new Intent();
+		ArrayList<String> list = new ArrayList<String>();
+		list.add("value");
+		for (int i = 0; i < size; ++i) {
+			String key = "extra" + i;
+			// In the order of TargetGenerator.EXTRA_TYPES.
+			switch (i % 7) {
+			case 0:
+				intent.putExtra(key, i);
+				break;
+			case 1:
+				intent.putExtra(key, (long)i);
+				break;
+			case 2:
+				intent.putExtra(key, true);
+				break;
+			case 3:
+				intent.putExtra(key, key);
+				break;
+			case 4:
+				intent.putExtra(key, new int[] { i });
+				break;
+			case 5:
+				intent.putStringArrayListExtra(key, list);
+				break;
+			case 6:
+				intent.putExtra(key, new Bundle());
+				break;
+			}
+		}
+		return intent;
+	}
+
+}
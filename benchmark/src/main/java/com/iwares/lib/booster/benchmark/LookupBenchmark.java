@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	benchmark/src/main/java/com/iwares/lib/booster/benchmark/LookupBenchmark.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.iwares.lib.booster.core.Booster;
+
+/**
+ * A form of 80 bound Views in a tree of 600: the single walk of
+ * {@link Booster#injectViews(Object, Class, Object)} against one findViewById
+ * walk per id.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LookupBenchmark {
+
+	private static final int NODES = 600;
+	private static final int IDS = 80;
+
+	private ViewGroup mRoot;
+
+	private Object mForm;
+
+	@Setup
+	public void setUp() {
+		mRoot = Fixtures.tree(NODES, 30, IDS);
+		mForm = Fixtures.newTarget("Views", IDS);
+	}
+
+	@Benchmark
+	public Object batched() {
+		Booster.injectViews(mForm, mForm.getClass(), mRoot);
+		return mForm;
+	}
+
+	@Benchmark
+	public void perId(Blackhole blackhole) {
+		for (int id = 1; id <= IDS; ++id) {
+			View view = mRoot.findViewById(id);
+			blackhole.consume(view);
+		}
+	}
+
+}
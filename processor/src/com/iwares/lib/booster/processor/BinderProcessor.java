@@ -0,0 +1,517 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	processor/src/com/iwares/lib/booster/processor/BinderProcessor.java
+ * @author	Eric.Tsai
+ *
+ */
+
+package com.iwares.lib.booster.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a {@code <Class>_Binder} for every class which uses the annotations
+ * of {@code com.iwares.lib.booster.annotation}. The binder creates the
+ * {@code BindingPlan} of the class with direct field assignments and direct
+ * method calls, so {@code Booster} does not have to scan or reflect on the
+ * class at runtime.
+ *
+ * Classes which are private, or which have private annotated members, can not
+ * be reached from generated code. No binder is generated for them and
+ * {@code Booster} falls back to reflection.
+ */
+@SupportedAnnotationTypes("com.iwares.lib.booster.annotation.*")
+public class BinderProcessor extends AbstractProcessor {
+
+	private static final String ANNOTATION = "com.iwares.lib.booster.annotation.";
+	private static final String CORE = "com.iwares.lib.booster.core.";
+	private static final String PLAN = CORE + "BindingPlan";
+
+	/** Listener annotations and the BindingPlan kinds they map to, in order of kind value. */
+	static final String[][] LISTENERS = {
+		{ "OnClick", "ON_CLICK" },
+		{ "OnLongClick", "ON_LONG_CLICK" },
+		{ "OnItemClick", "ON_ITEM_CLICK" },
+		{ "OnItemLongClick", "ON_ITEM_LONG_CLICK" },
+		{ "OnItemSelected", "ON_ITEM_SELECTED" },
+		{ "OnTouch", "ON_TOUCH" },
+		{ "OnFocusChanged", "ON_FOCUS_CHANGED" },
+		{ "OnEditorAction", "ON_EDITOR_ACTION" },
+		{ "OnTextChanged", "ON_TEXT_CHANGED" },
+	};
+
+	/** Number of ThreadMode constants: MAIN, BACKGROUND and SERIAL. */
+	static final int THREAD_MODES = 3;
+
+	/** Invoker methods: parameter list, argument names and argument types. */
+	private static final String VIEW_SIGNATURE = "android.view.View view";
+	private static final String TOUCH_SIGNATURE = "android.view.View view, android.view.MotionEvent event";
+	private static final String FOCUS_SIGNATURE = "android.view.View view, boolean hasFocus";
+	private static final String ITEM_SIGNATURE = "android.widget.AdapterView<?> parent, android.view.View view, int position, long id";
+	private static final String EDITOR_SIGNATURE = "android.widget.TextView view, int actionId, android.view.KeyEvent event";
+	private static final String TEXT_SIGNATURE = "android.widget.TextView view, java.lang.CharSequence text";
+
+	/** Intent getters and putters of primitive extras; getters take the current value as default. */
+	private static final String[][] PRIMITIVE_EXTRAS = {
+		{ "boolean", "getBooleanExtra", "putExtra" },
+		{ "byte", "getByteExtra", "putExtra" },
+		{ "char", "getCharExtra", "putExtra" },
+		{ "short", "getShortExtra", "putExtra" },
+		{ "int", "getIntExtra", "putExtra" },
+		{ "long", "getLongExtra", "putExtra" },
+		{ "float", "getFloatExtra", "putExtra" },
+		{ "double", "getDoubleExtra", "putExtra" },
+	};
+
+	/** Intent getters and putters of object extras; getters return null if the extra is missing. */
+	private static final String[][] OBJECT_EXTRAS = {
+		{ "boolean[]", "getBooleanArrayExtra", "putExtra" },
+		{ "byte[]", "getByteArrayExtra", "putExtra" },
+		{ "char[]", "getCharArrayExtra", "putExtra" },
+		{ "short[]", "getShortArrayExtra", "putExtra" },
+		{ "int[]", "getIntArrayExtra", "putExtra" },
+		{ "long[]", "getLongArrayExtra", "putExtra" },
+		{ "float[]", "getFloatArrayExtra", "putExtra" },
+		{ "double[]", "getDoubleArrayExtra", "putExtra" },
+		{ "java.lang.String", "getStringExtra", "putExtra" },
+		{ "java.lang.String[]", "getStringArrayExtra", "putExtra" },
+		{ "android.os.Bundle", "getBundleExtra", "putExtra" },
+		{ "java.util.ArrayList<java.lang.String>", "getStringArrayListExtra", "putStringArrayListExtra" },
+		{ "java.util.ArrayList<java.lang.Integer>", "getIntegerArrayListExtra", "putIntegerArrayListExtra" },
+	};
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		// Collect every class which declares annotated members.
+		Set<TypeElement> types = new LinkedHashSet<TypeElement>();
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				Element enclosing = element.getEnclosingElement();
+				if (enclosing.getKind().isClass())
+					types.add((TypeElement)enclosing);
+			}
+		}
+		for (TypeElement type : types) {
+			if (!isReachable(type))
+				continue;
+			try {
+				generate(type);
+			} catch (IOException e) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+						"Failed to write binder: " + e.getMessage(), type);
+			}
+		}
+		return false;
+	}
+
+	private boolean isReachable(TypeElement type) {
+		for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+			if (e.getModifiers().contains(Modifier.PRIVATE)) {
+				note(type, "private class");
+				return false;
+			}
+		}
+		for (Element member : type.getEnclosedElements()) {
+			if (member.getModifiers().contains(Modifier.PRIVATE) && hasBoosterAnnotation(member)) {
+				note(type, "private member " + member.getSimpleName());
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void note(TypeElement type, String reason) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+				"No binder generated for " + type.getQualifiedName() + " (" + reason + "), reflection will be used.", type);
+	}
+
+	private void generate(TypeElement type) throws IOException {
+		String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+		String binderName = (packageName.length() == 0 ? binaryName : binaryName.substring(packageName.length() + 1)) + "_Binder";
+		String targetName = erasure(type.asType());
+
+		StringBuilder invokers = new StringBuilder();
+		StringBuilder views = new StringBuilder();
+		StringBuilder layouts = new StringBuilder();
+		StringBuilder listeners = new StringBuilder();
+		StringBuilder services = new StringBuilder();
+		StringBuilder extras = new StringBuilder();
+
+		int invokerCount = 0;
+		for (Element member : type.getEnclosedElements()) {
+			if (member.getKind() == ElementKind.FIELD) {
+				VariableElement field = (VariableElement)member;
+				String name = field.getSimpleName().toString();
+				String fieldType = erasure(field.asType());
+				AnnotationMirror mirror;
+				if ((mirror = mirror(field, "ViewById")) != null)
+					views.append(viewBinding(targetName, name, fieldType, String.valueOf(value(mirror, "value")), isLazy(fieldType)));
+				if ((mirror = mirror(field, "ViewByIdEx")) != null)
+					views.append(viewBinding(targetName, name, fieldType, resourceId(mirror, (String)value(mirror, "id")), isLazy(fieldType)));
+				if ((mirror = mirror(field, "ViewFromLayout")) != null)
+					layouts.append(viewBinding(targetName, name, fieldType, String.valueOf(value(mirror, "value")), isLazy(fieldType)));
+				if (mirror(field, "SystemService") != null)
+					services.append(serviceBinding(targetName, name, fieldType));
+				if ((mirror = mirror(field, "IntentExtra")) != null) {
+					String key = (String)value(mirror, "value");
+					extras.append(extraBinding(field, targetName, name, key.length() == 0 ? name : key));
+				}
+			} else if (member.getKind() == ElementKind.METHOD) {
+				ExecutableElement method = (ExecutableElement)member;
+				StringBuilder bindings = new StringBuilder();
+				Set<String> signatures = new LinkedHashSet<String>();
+				String invoker = "invoker" + invokerCount;
+				for (int i = 0; i < LISTENERS.length; ++i) {
+					String kind = LISTENERS[i][1];
+					AnnotationMirror mirror;
+					if ((mirror = mirror(method, LISTENERS[i][0])) != null) {
+						bindings.append(listenerBinding(kind, intIds(value(mirror, "value")), invoker, method, mirror));
+						signatures.add(signatureOf(kind));
+					}
+					if ((mirror = mirror(method, LISTENERS[i][0] + "Ex")) != null) {
+						bindings.append(listenerBinding(kind, resourceIds(mirror), invoker, method, mirror));
+						signatures.add(signatureOf(kind));
+					}
+				}
+				if (bindings.length() == 0)
+					continue;
+				if (signatures.size() != 1) {
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+							"Listener annotations of a method must share one signature: " + signatures, method);
+					continue;
+				}
+				String signature = signatures.iterator().next();
+				String invokerType = CORE + "Invoker." + invokerTypeOf(signature);
+				invokers.append("\t\tfinal ").append(invokerType).append(" ").append(invoker)
+						.append(" = new ").append(invokerType).append("() {\n");
+				invokers.append(invokerMethod(targetName, method, signature));
+				invokers.append("\t\t};\n");
+				listeners.append(bindings);
+				++invokerCount;
+			}
+		}
+
+		Writer writer = processingEnv.getFiler().createSourceFile(
+				packageName.length() == 0 ? binderName : packageName + "." + binderName, type).openWriter();
+		try {
+			StringBuilder out = new StringBuilder();
+			out.append("// Generated by ").append(BinderProcessor.class.getName()).append(". Do not modify.\n\n");
+			if (packageName.length() != 0)
+				out.append("package ").append(packageName).append(";\n\n");
+			out.append("@SuppressWarnings(\"unchecked\")\n");
+			out.append("public final class ").append(binderName).append(" implements ").append(PLAN).append(".Factory {\n\n");
+			out.append("\t@Override\n");
+			out.append("\tpublic ").append(PLAN).append(" createPlan() {\n");
+			out.append(invokers);
+			out.append("\t\treturn new ").append(PLAN).append("(").append(targetName).append(".class,\n");
+			out.append(array("ViewBinding", views)).append(",\n");
+			out.append(array("ViewBinding", layouts)).append(",\n");
+			out.append(array("ListenerBinding", listeners)).append(",\n");
+			out.append(array("ServiceBinding", services)).append(",\n");
+			out.append(array("ExtraBinding", extras)).append(");\n");
+			out.append("\t}\n\n");
+			out.append("}\n");
+			writer.write(out.toString());
+		} finally {
+			writer.close();
+		}
+	}
+
+	private static String array(String binding, StringBuilder elements) {
+		if (elements.length() == 0)
+			return "\t\t\t\tnull";
+		return "\t\t\t\tnew " + PLAN + "." + binding + "[] {\n" + elements + "\t\t\t\t}";
+	}
+
+	private static String accessor(String targetName, String name, String fieldType) {
+		return "new " + CORE + "FieldAccessor() {\n"
+				+ "\t\t\t\t\t\t@Override\n"
+				+ "\t\t\t\t\t\tpublic void set(Object target, Object value) {\n"
+				+ "\t\t\t\t\t\t\t((" + targetName + ")target)." + name + " = (" + fieldType + ")value;\n"
+				+ "\t\t\t\t\t\t}\n"
+				+ "\t\t\t\t\t\t@Override\n"
+				+ "\t\t\t\t\t\tpublic Object get(Object target) {\n"
+				+ "\t\t\t\t\t\t\treturn ((" + targetName + ")target)." + name + ";\n"
+				+ "\t\t\t\t\t\t}\n"
+				+ "\t\t\t\t\t}";
+	}
+
+	private static String viewBinding(String targetName, String name, String fieldType, String id, boolean lazy) {
+		return "\t\t\t\t\tnew " + PLAN + ".ViewBinding(" + accessor(targetName, name, fieldType) + ", " + id
+				+ (lazy ? ", true" : "") + "),\n";
+	}
+
+	private static boolean isLazy(String fieldType) {
+		return fieldType.equals(CORE + "LazyView");
+	}
+
+	private static String serviceBinding(String targetName, String name, String fieldType) {
+		return "\t\t\t\t\tnew " + PLAN + ".ServiceBinding(" + accessor(targetName, name, fieldType) + ", " + fieldType + ".class),\n";
+	}
+
+	private String extraBinding(VariableElement field, String targetName, String name, String key) {
+		String fieldType = erasure(field.asType());
+		String fullType = field.asType().toString();
+		String read = null;
+		String write = null;
+		for (String[] extra : PRIMITIVE_EXTRAS) {
+			if (extra[0].equals(fullType)) {
+				read = "\t\t\t\t\t\t\tt." + name + " = intent." + extra[1] + "(mKey, t." + name + ");\n";
+				write = "\t\t\t\t\t\t\tintent." + extra[2] + "(mKey, t." + name + ");\n";
+			}
+		}
+		for (String[] extra : OBJECT_EXTRAS) {
+			if (extra[0].equals(fullType)) {
+				read = objectExtra(name, fullType, "intent." + extra[1] + "(mKey)");
+				write = objectWrite(name, "intent." + extra[2] + "(mKey, t." + name + ")");
+			}
+		}
+		// Checked last, arrays, Strings and ArrayLists are Serializable too.
+		if (read == null && isAssignable(field.asType(), "android.os.Parcelable")) {
+			read = objectExtra(name, fieldType, "intent.<" + fieldType + ">getParcelableExtra(mKey)");
+			write = objectWrite(name, "intent.putExtra(mKey, (android.os.Parcelable)t." + name + ")");
+		}
+		if (read == null && isAssignable(field.asType(), "java.io.Serializable")) {
+			read = objectExtra(name, fieldType, "(" + fieldType + ")intent.getSerializableExtra(mKey)");
+			write = objectWrite(name, "intent.putExtra(mKey, (java.io.Serializable)t." + name + ")");
+		}
+		if (read == null) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Unexpected type of @IntentExtra field: " + fieldType, field);
+			return "";
+		}
+		return "\t\t\t\t\tnew " + PLAN + ".ExtraBinding(" + literal(key) + ") {\n"
+				+ "\t\t\t\t\t\t@Override\n"
+				+ "\t\t\t\t\t\tpublic void read(Object target, android.content.Intent intent) {\n"
+				+ "\t\t\t\t\t\t\t" + targetName + " t = (" + targetName + ")target;\n"
+				+ read
+				+ "\t\t\t\t\t\t}\n"
+				+ "\t\t\t\t\t\t@Override\n"
+				+ "\t\t\t\t\t\tpublic void write(Object source, android.content.Intent intent) {\n"
+				+ "\t\t\t\t\t\t\t" + targetName + " t = (" + targetName + ")source;\n"
+				+ write
+				+ "\t\t\t\t\t\t}\n"
+				+ "\t\t\t\t\t},\n";
+	}
+
+	private static String objectExtra(String name, String type, String getter) {
+		return "\t\t\t\t\t\t\t" + type + " value = " + getter + ";\n"
+				+ "\t\t\t\t\t\t\tif (value != null) t." + name + " = value;\n";
+	}
+
+	private static String objectWrite(String name, String putter) {
+		return "\t\t\t\t\t\t\tif (t." + name + " != null) " + putter + ";\n";
+	}
+
+	private boolean isAssignable(TypeMirror type, String className) {
+		TypeElement element = processingEnv.getElementUtils().getTypeElement(className);
+		return element != null && processingEnv.getTypeUtils().isAssignable(type, element.asType());
+	}
+
+	private String listenerBinding(String kind, String ids, String invoker, ExecutableElement method, AnnotationMirror mirror) {
+		return "\t\t\t\t\tnew " + PLAN + ".ListenerBinding(" + PLAN + "." + kind + ", new int[] { " + ids + " }, "
+				+ invoker + ", " + literal(method.getSimpleName().toString()) + listenerOptions(method, mirror) + "),\n";
+	}
+
+	/** Returns the throttle, debounce, thread and flag arguments, if the annotation sets any. */
+	private String listenerOptions(ExecutableElement method, AnnotationMirror mirror) {
+		int minIntervalMs = intValue(mirror, "minIntervalMs");
+		int debounceMs = intValue(mirror, "debounceMs");
+		int thread = intValue(mirror, "thread");
+		if (thread < 0 || thread >= THREAD_MODES) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Unexpected thread of listener method, use a ThreadMode constant: " + thread, method, mirror);
+			thread = 0;
+		}
+		String flags = "0";
+		if (Boolean.TRUE.equals(value(mirror, "coalesce")))
+			flags = PLAN + ".FLAG_COALESCE";
+		else if (Boolean.TRUE.equals(value(mirror, "conflate")))
+			flags = PLAN + ".FLAG_CONFLATE";
+		if (minIntervalMs == 0 && debounceMs == 0 && thread == 0 && flags.equals("0"))
+			return "";
+		return ", " + minIntervalMs + ", " + debounceMs + ", " + thread + ", " + flags;
+	}
+
+	/** Returns 0 for annotations without such an attribute. */
+	private int intValue(AnnotationMirror mirror, String name) {
+		Object value = value(mirror, name);
+		return value != null ? (Integer)value : 0;
+	}
+
+	private static String signatureOf(String kind) {
+		if (kind.equals("ON_CLICK") || kind.equals("ON_LONG_CLICK"))
+			return VIEW_SIGNATURE;
+		if (kind.equals("ON_TOUCH"))
+			return TOUCH_SIGNATURE;
+		if (kind.equals("ON_FOCUS_CHANGED"))
+			return FOCUS_SIGNATURE;
+		if (kind.equals("ON_EDITOR_ACTION"))
+			return EDITOR_SIGNATURE;
+		if (kind.equals("ON_TEXT_CHANGED"))
+			return TEXT_SIGNATURE;
+		return ITEM_SIGNATURE;
+	}
+
+	/** Returns the nested interface of Invoker implemented for 'signature'. */
+	private static String invokerTypeOf(String signature) {
+		if (signature.equals(VIEW_SIGNATURE))
+			return "OfView";
+		if (signature.equals(TOUCH_SIGNATURE))
+			return "OfTouch";
+		if (signature.equals(FOCUS_SIGNATURE))
+			return "OfFocus";
+		if (signature.equals(EDITOR_SIGNATURE))
+			return "OfEditorAction";
+		if (signature.equals(TEXT_SIGNATURE))
+			return "OfText";
+		return "OfItem";
+	}
+
+	private String invokerMethod(String targetName, ExecutableElement method, String signature) {
+		String[] parameters = signature.split(", ");
+		List<? extends VariableElement> declared = method.getParameters();
+		if (declared.size() != parameters.length) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Listener method must take (" + signature + ")", method);
+			return "";
+		}
+		StringBuilder call = new StringBuilder();
+		call.append("((").append(targetName).append(")receiver).").append(method.getSimpleName()).append("(");
+		for (int i = 0; i < parameters.length; ++i) {
+			String parameterType = parameters[i].substring(0, parameters[i].lastIndexOf(' '));
+			String argument = parameters[i].substring(parameters[i].lastIndexOf(' ') + 1);
+			TypeMirror declaredType = declared.get(i).asType();
+			if (i > 0)
+				call.append(", ");
+			// Narrow reference arguments to the declared parameter types.
+			if (!declaredType.getKind().isPrimitive() && !erasure(declaredType).equals(parameterType.replace("<?>", "")))
+				call.append("(").append(erasure(declaredType)).append(")");
+			call.append(argument);
+		}
+		call.append(")");
+		TypeMirror returnType = method.getReturnType();
+		boolean returnsBoolean = returnType.getKind() == TypeKind.BOOLEAN || erasure(returnType).equals("java.lang.Boolean");
+		return "\t\t\t@Override\n"
+				+ "\t\t\tpublic boolean invoke(Object receiver, " + signature + ") throws Exception {\n"
+				+ (returnsBoolean
+						? "\t\t\t\treturn " + call + ";\n"
+						: "\t\t\t\t" + call + ";\n\t\t\t\treturn false;\n")
+				+ "\t\t\t}\n";
+	}
+
+	private boolean hasBoosterAnnotation(Element element) {
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			if (annotationName(mirror).startsWith(ANNOTATION))
+				return true;
+		}
+		return false;
+	}
+
+	private static String annotationName(AnnotationMirror mirror) {
+		return ((TypeElement)mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+	}
+
+	private static AnnotationMirror mirror(Element element, String simpleName) {
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			if (annotationName(mirror).equals(ANNOTATION + simpleName))
+				return mirror;
+		}
+		return null;
+	}
+
+	private Object value(AnnotationMirror mirror, String name) {
+		Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+				processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(name))
+				return entry.getValue().getValue();
+		}
+		return null;
+	}
+
+	private static String intIds(Object value) {
+		StringBuilder ids = new StringBuilder();
+		for (Object id : (List<?>)value) {
+			if (ids.length() != 0)
+				ids.append(", ");
+			ids.append(((AnnotationValue)id).getValue());
+		}
+		return ids.toString();
+	}
+
+	/** Refers to the R fields directly, they are static but not final in library projects. */
+	private String resourceIds(AnnotationMirror mirror) {
+		StringBuilder ids = new StringBuilder();
+		for (Object id : (List<?>)value(mirror, "id")) {
+			if (ids.length() != 0)
+				ids.append(", ");
+			ids.append(resourceId(mirror, (String)((AnnotationValue)id).getValue()));
+		}
+		return ids.toString();
+	}
+
+	private String resourceId(AnnotationMirror mirror, String name) {
+		TypeMirror cls = (TypeMirror)value(mirror, "cls");
+		return erasure(cls) + "." + name;
+	}
+
+	private String erasure(TypeMirror type) {
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	private static String literal(String value) {
+		StringBuilder literal = new StringBuilder("\"");
+		for (int i = 0, c = value.length(); i < c; ++i) {
+			char ch = value.charAt(i);
+			if (ch == '"' || ch == '\\')
+				literal.append('\\');
+			literal.append(ch);
+		}
+		return literal.append('"').toString();
+	}
+
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	processor/src/com/iwares/lib/booster/processor/PlanAssetWriter.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.processor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the binding plans of compiled classes into an asset which
+ * {@code Booster.usePlanAsset()} reads at runtime. Run it after compiling the
+ * application and before packaging its assets, with the compiled classes, the
+ * booster library and android.jar on the class path:
+ * 
+ * <pre>
+ * java -cp bin/classes:libs/booster.jar:android.jar:booster-processor.jar \
+ *     com.iwares.lib.booster.processor.PlanAssetWriter \
+ *     assets/booster-plans.bin com.example.MainActivity com.example.DetailActivity
+ * </pre>
+ * 
+ * Classes are loaded without being initialized. Classes which have a
+ * generated binder are skipped, the binder is used for them. The format is
+ * described by {@code com.iwares.lib.booster.core.PlanAsset} and the two must
+ * be changed together.
+ */
+public class PlanAssetWriter {
+
+	private static final String ANNOTATION = "com.iwares.lib.booster.annotation.";
+
+	private static final int MAGIC = 0x42504C4E;
+	private static final int VERSION = 5;
+	private static final int FLAG_COALESCE = 0x01;
+	private static final int FLAG_CONFLATE = 0x02;
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 2) {
+			System.err.println("Usage: PlanAssetWriter <output> <class>...");
+			System.exit(1);
+		}
+		ClassLoader loader = PlanAssetWriter.class.getClassLoader();
+		List<Class<?>> classes = new ArrayList<Class<?>>();
+		for (int i = 1; i < args.length; ++i) {
+			Class<?> cls = Class.forName(args[i], false, loader);
+			if (hasBinder(cls, loader))
+				continue;
+			classes.add(cls);
+		}
+		FileOutputStream out = new FileOutputStream(args[0]);
+		try {
+			out.write(write(classes));
+		} finally {
+			out.close();
+		}
+	}
+
+	private static boolean hasBinder(Class<?> cls, ClassLoader loader) {
+		try {
+			Class.forName(cls.getName() + "_Binder", false, loader);
+			return true;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
+	static byte[] write(List<Class<?>> classes) throws Exception {
+		// Records first, so that the index can point at them.
+		ByteArrayOutputStream records = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(records);
+		int[] offsets = new int[classes.size()];
+		for (int i = 0, c = classes.size(); i < c; ++i) {
+			offsets[i] = out.size();
+			record(out, classes.get(i));
+		}
+
+		ByteArrayOutputStream index = new ByteArrayOutputStream();
+		DataOutputStream header = new DataOutputStream(index);
+		header.writeInt(MAGIC);
+		header.writeInt(VERSION);
+		header.writeInt(classes.size());
+		int size = 12;
+		for (int i = 0, c = classes.size(); i < c; ++i)
+			size += 2 + utf(classes.get(i).getName()).length + 4;
+		for (int i = 0, c = classes.size(); i < c; ++i) {
+			string(header, classes.get(i).getName());
+			header.writeInt(size + offsets[i]);
+		}
+		index.write(records.toByteArray());
+		return index.toByteArray();
+	}
+
+	private static void record(DataOutputStream out, Class<?> cls) throws Exception {
+		ByteArrayOutputStream views = new ByteArrayOutputStream();
+		ByteArrayOutputStream layouts = new ByteArrayOutputStream();
+		ByteArrayOutputStream listeners = new ByteArrayOutputStream();
+		ByteArrayOutputStream services = new ByteArrayOutputStream();
+		ByteArrayOutputStream extras = new ByteArrayOutputStream();
+		int[] counts = new int[5];
+
+		out.writeInt(fingerprint(cls));
+
+		for (Field field : cls.getDeclaredFields()) {
+			boolean lazy = field.getType().getName().equals("com.iwares.lib.booster.core.LazyView");
+			for (Annotation annotation : field.getDeclaredAnnotations()) {
+				String name = annotation.annotationType().getName();
+				if (name.equals(ANNOTATION + "ViewById")) {
+					view(views, field, (Integer)value(annotation, "value"), lazy);
+					++counts[0];
+				} else if (name.equals(ANNOTATION + "ViewByIdEx")) {
+					view(views, field, id((Class<?>)value(annotation, "cls"), (String)value(annotation, "id")), lazy);
+					++counts[0];
+				} else if (name.equals(ANNOTATION + "ViewFromLayout")) {
+					view(layouts, field, (Integer)value(annotation, "value"), lazy);
+					++counts[1];
+				} else if (name.equals(ANNOTATION + "SystemService")) {
+					string(new DataOutputStream(services), field.getName());
+					++counts[3];
+				} else if (name.equals(ANNOTATION + "IntentExtra")) {
+					String key = (String)value(annotation, "value");
+					DataOutputStream extra = new DataOutputStream(extras);
+					string(extra, field.getName());
+					string(extra, key.length() != 0 ? key : field.getName());
+					++counts[4];
+				}
+			}
+		}
+
+		for (Method method : cls.getDeclaredMethods()) {
+			for (Annotation annotation : method.getDeclaredAnnotations()) {
+				String name = annotation.annotationType().getName();
+				if (!name.startsWith(ANNOTATION))
+					continue;
+				name = name.substring(ANNOTATION.length());
+				boolean ex = name.endsWith("Ex");
+				int kind = kindOf(ex ? name.substring(0, name.length() - 2) : name);
+				if (kind < 0)
+					continue;
+				int[] ids;
+				if (ex) {
+					Class<?> rClass = (Class<?>)value(annotation, "cls");
+					String[] names = (String[])value(annotation, "id");
+					ids = new int[names.length];
+					for (int i = 0, c = names.length; i < c; ++i)
+						ids[i] = id(rClass, names[i]);
+				} else {
+					ids = (int[])value(annotation, "value");
+				}
+				listener(listeners, method, kind, ids, optionalInt(annotation, "minIntervalMs"),
+						optionalInt(annotation, "debounceMs"), optionalInt(annotation, "thread"), flags(annotation));
+				++counts[2];
+			}
+		}
+
+		ByteArrayOutputStream[] sections = { views, layouts, listeners, services, extras };
+		for (int i = 0, c = sections.length; i < c; ++i) {
+			out.writeInt(counts[i]);
+			out.write(sections[i].toByteArray());
+		}
+	}
+
+	/**
+	 * Returns a hash of the names and types of the declared fields and methods
+	 * of 'cls', which does not depend on their order. Must match
+	 * {@code PlanAsset.fingerprint()}.
+	 */
+	static int fingerprint(Class<?> cls) {
+		int hash = 0;
+		for (Field field : cls.getDeclaredFields()) {
+			if (!field.isSynthetic())
+				hash += mix((field.getName() + ' ' + field.getType().getName()).hashCode());
+		}
+		for (Method method : cls.getDeclaredMethods()) {
+			if (method.isSynthetic())
+				continue;
+			StringBuilder signature = new StringBuilder();
+			signature.append(method.getName()).append('(');
+			for (Class<?> type : method.getParameterTypes())
+				signature.append(type.getName()).append(',');
+			signature.append(')').append(method.getReturnType().getName());
+			hash += mix(signature.toString().hashCode());
+		}
+		return hash;
+	}
+
+	private static int mix(int hash) {
+		return (hash ^ (hash >>> 16)) * 0x9E3779B1;
+	}
+
+	private static void view(ByteArrayOutputStream section, Field field, int id, boolean lazy) throws IOException {
+		DataOutputStream out = new DataOutputStream(section);
+		string(out, field.getName());
+		out.writeInt(id);
+		out.writeByte(lazy ? 1 : 0);
+	}
+
+	private static void listener(ByteArrayOutputStream section, Method method, int kind, int[] ids,
+			int minIntervalMs, int debounceMs, int thread, int flags) throws IOException {
+		if (thread < 0 || thread >= BinderProcessor.THREAD_MODES)
+			throw new IllegalArgumentException("Unexpected thread of " + method + ", use a ThreadMode constant: " + thread);
+		DataOutputStream out = new DataOutputStream(section);
+		string(out, method.getName());
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		out.writeByte(parameterTypes.length);
+		for (Class<?> type : parameterTypes)
+			string(out, type.getName());
+		out.writeByte(kind);
+		out.writeInt(ids.length);
+		for (int id : ids)
+			out.writeInt(id);
+		out.writeInt(minIntervalMs);
+		out.writeInt(debounceMs);
+		out.writeByte(thread);
+		out.writeByte(flags);
+	}
+
+	private static int kindOf(String name) {
+		for (int i = 0, c = BinderProcessor.LISTENERS.length; i < c; ++i) {
+			if (BinderProcessor.LISTENERS[i][0].equals(name))
+				return i;
+		}
+		return -1;
+	}
+
+	private static int id(Class<?> rClass, String name) throws Exception {
+		return rClass.getField(name).getInt(null);
+	}
+
+	private static Object value(Annotation annotation, String name) throws Exception {
+		return annotation.annotationType().getMethod(name).invoke(annotation);
+	}
+
+	/** Returns the BindingPlan FLAG_ constants set by the annotation. */
+	private static int flags(Annotation annotation) throws Exception {
+		int flags = 0;
+		if (optionalBoolean(annotation, "coalesce"))
+			flags |= FLAG_COALESCE;
+		if (optionalBoolean(annotation, "conflate"))
+			flags |= FLAG_CONFLATE;
+		return flags;
+	}
+
+	/** Returns false for annotations without such an attribute. */
+	private static boolean optionalBoolean(Annotation annotation, String name) throws Exception {
+		try {
+			return (Boolean)value(annotation, name);
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	/** Returns 0 for annotations without such an attribute. */
+	private static int optionalInt(Annotation annotation, String name) throws Exception {
+		try {
+			return (Integer)value(annotation, name);
+		} catch (NoSuchMethodException e) {
+			return 0;
+		}
+	}
+
+	private static void string(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = utf(value);
+		out.writeShort(bytes.length);
+		out.write(bytes);
+	}
+
+	private static byte[] utf(String value) throws IOException {
+		return value.getBytes("UTF-8");
+	}
+
+}
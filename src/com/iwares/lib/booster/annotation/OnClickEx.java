@@ -37,4 +37,22 @@ public @interface OnClickEx {
 	Class<?> cls();
 	String[] id();
 
+	/**
+	 * Ignores events which follow the last handled event of the same View
+	 * within this many milliseconds, such as the second tap of a double tap.
+	 */
+	int minIntervalMs() default 0;
+
+	/**
+	 * Handles an event only once no further event of the same View followed
+	 * within this many milliseconds, with the arguments of the last event.
+	 */
+	int debounceMs() default 0;
+
+	/**
+	 * The thread the method is invoked on, one of the {@link ThreadMode}
+	 * constants.
+	 */
+	int thread() default ThreadMode.MAIN;
+
 }
@@ -36,4 +36,10 @@ public @interface OnItemSelected {
 
 	int[] value();
 
+	/**
+	 * The thread the method is invoked on, one of the {@link ThreadMode}
+	 * constants.
+	 */
+	int thread() default ThreadMode.MAIN;
+
 }
@@ -37,4 +37,10 @@ public @interface OnItemSelectedEx {
 	Class<?> cls();
 	String[] id();
 
+	/**
+	 * The thread the method is invoked on, one of the {@link ThreadMode}
+	 * constants.
+	 */
+	int thread() default ThreadMode.MAIN;
+
 }
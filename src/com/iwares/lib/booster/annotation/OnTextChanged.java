@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/annotation/OnTextChanged.java
+ * @author	Eric.Tsai
+ *
+ */
+
+package com.iwares.lib.booster.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OnTextChanged {
+
+	int[] value();
+
+	/**
+	 * Delivers the text at most once per frame, however often it changes in
+	 * between, so that only the latest text is handled.
+	 */
+	boolean conflate() default false;
+
+	/**
+	 * Delivers the text only once it has not changed for this many
+	 * milliseconds.
+	 */
+	int debounceMs() default 0;
+
+}
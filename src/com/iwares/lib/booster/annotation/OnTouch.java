@@ -36,4 +36,12 @@ public @interface OnTouch {
 
 	int[] value();
 
+	/**
+	 * Delivers moves at most once per frame, as one event which holds the
+	 * moves since the last frame as its historical samples. Other actions are
+	 * delivered at once, after any held moves. The method must not keep the
+	 * event, it is recycled after delivery.
+	 */
+	boolean coalesce() default false;
+
 }
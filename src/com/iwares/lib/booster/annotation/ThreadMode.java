@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/annotation/ThreadMode.java
+ * @author	Eric.Tsai
+ *
+ */
+
+package com.iwares.lib.booster.annotation;
+
+/**
+ * Threads which listener methods can be invoked on, for the {@code thread}
+ * attribute of listener annotations. Other values are rejected when the
+ * binding plan is built.
+ */
+public final class ThreadMode {
+
+	/** Invoked on the main thread, when the event happens. */
+	public static final int MAIN = 0;
+
+	/**
+	 * Invoked on a background thread. Events may be handled concurrently and
+	 * out of order.
+	 */
+	public static final int BACKGROUND = 1;
+
+	/**
+	 * Invoked on a background thread, one event at a time in order of the
+	 * events, for all such methods of the same receiver.
+	 */
+	public static final int SERIAL = 2;
+
+	private ThreadMode() {
+	}
+
+}
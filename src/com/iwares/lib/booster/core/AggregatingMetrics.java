@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/AggregatingMetrics.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+
+/**
+ * A {@link BoosterMetrics} which keeps totals in memory, to be shown from a
+ * debug menu:
+ * 
+ * <pre>
+ * AggregatingMetrics metrics = new AggregatingMetrics();
+ * Booster.setMetrics(metrics);
+ * ...
+ * Log.d(TAG, metrics.dump());
+ * </pre>
+ */
+public class AggregatingMetrics extends BoosterMetrics {
+
+	private static final String[] PHASE_NAMES = { "views", "layouts", "listeners", "services", "extras" };
+
+	private static final String[] KIND_NAMES = {
+		"click", "longClick", "itemClick", "itemLongClick",
+		"itemSelected", "touch", "focusChanged", "editorAction",
+		"textChanged",
+	};
+
+	/** Count, total and maximum nanos of each phase, by class. */
+	private final HashMap<Class<?>, long[][]> mPhases = new HashMap<Class<?>, long[][]>();
+
+	private final long[] mDispatches = new long[KIND_NAMES.length];
+
+	private long mCacheHits;
+
+	private long mCacheMisses;
+
+	private long mCacheMissNanos;
+
+	private int mCacheSize;
+
+	/** Names of classes whose plans could not be preloaded. */
+	private final ArrayList<String> mPreloadFailures = new ArrayList<String>();
+
+	@Override
+	public synchronized void onPhase(Class<?> targetClass, int phase, long nanos) {
+		long[][] phases = mPhases.get(targetClass);
+		if (phases == null) {
+			phases = new long[PHASE_COUNT][3];
+			mPhases.put(targetClass, phases);
+		}
+		long[] stats = phases[phase];
+		++stats[0];
+		stats[1] += nanos;
+		stats[2] = Math.max(stats[2], nanos);
+	}
+
+	@Override
+	public synchronized void onPlanCacheHit(Class<?> targetClass) {
+		++mCacheHits;
+	}
+
+	@Override
+	public synchronized void onPlanCacheMiss(Class<?> targetClass, long nanos, int cacheSize) {
+		++mCacheMisses;
+		mCacheMissNanos += nanos;
+		mCacheSize = cacheSize;
+	}
+
+	@Override
+	public synchronized void onPreloadFailed(String className, Throwable error) {
+		mPreloadFailures.add(className);
+	}
+
+	@Override
+	public synchronized void onDispatch(int kind) {
+		if (kind >= 0 && kind < mDispatches.length)
+			++mDispatches[kind];
+	}
+
+	/**
+	 * Returns the total nanos spent in 'phase' for 'targetClass'.
+	 */
+	public synchronized long getPhaseNanos(Class<?> targetClass, int phase) {
+		long[][] phases = mPhases.get(targetClass);
+		return phases != null ? phases[phase][1] : 0;
+	}
+
+	/**
+	 * Returns the total nanos spent in all phases for 'targetClass'.
+	 */
+	public synchronized long getTotalNanos(Class<?> targetClass) {
+		long total = 0;
+		for (int i = 0; i < PHASE_COUNT; ++i)
+			total += getPhaseNanos(targetClass, i);
+		return total;
+	}
+
+	public synchronized long getCacheHits() {
+		return mCacheHits;
+	}
+
+	public synchronized long getCacheMisses() {
+		return mCacheMisses;
+	}
+
+	public synchronized int getCacheSize() {
+		return mCacheSize;
+	}
+
+	public synchronized int getPreloadFailures() {
+		return mPreloadFailures.size();
+	}
+
+	/**
+	 * Returns the number of events delivered to listeners of 'kind', one of the
+	 * ON_ constants of {@link BindingPlan}.
+	 */
+	public synchronized long getDispatches(int kind) {
+		return mDispatches[kind];
+	}
+
+	/**
+	 * Drops everything recorded so far.
+	 */
+	public synchronized void reset() {
+		mPhases.clear();
+		for (int i = 0, c = mDispatches.length; i < c; ++i)
+			mDispatches[i] = 0;
+		mCacheHits = 0;
+		mCacheMisses = 0;
+		mCacheMissNanos = 0;
+		mCacheSize = 0;
+		mPreloadFailures.clear();
+	}
+
+	/**
+	 * Returns a text report, classes which took most time first. Times are in
+	 * microseconds: total/count/max for each phase.
+	 */
+	public synchronized String dump() {
+		StringBuilder out = new StringBuilder();
+		out.append("Plan cache: ").append(mCacheHits).append(" hits, ")
+				.append(mCacheMisses).append(" misses (").append(mCacheMissNanos / 1000).append(" us), ")
+				.append(mCacheSize).append(" plans\n");
+
+		if (!mPreloadFailures.isEmpty())
+			out.append("Preload failures: ").append(mPreloadFailures).append('\n');
+
+		out.append("Dispatches:");
+		for (int i = 0, c = mDispatches.length; i < c; ++i) {
+			if (mDispatches[i] != 0)
+				out.append(' ').append(KIND_NAMES[i]).append('=').append(mDispatches[i]);
+		}
+		out.append('\n');
+
+		ArrayList<Class<?>> classes = new ArrayList<Class<?>>(mPhases.keySet());
+		Collections.sort(classes, new Comparator<Class<?>>() {
+			@Override
+			public int compare(Class<?> lhs, Class<?> rhs) {
+				long l = getTotalNanos(lhs), r = getTotalNanos(rhs);
+				return l < r ? 1 : (l > r ? -1 : 0);
+			}
+		});
+		for (int i = 0, c = classes.size(); i < c; ++i) {
+			Class<?> cls = classes.get(i);
+			long[][] phases = mPhases.get(cls);
+			out.append(cls.getName()).append(':');
+			for (int j = 0; j < PHASE_COUNT; ++j) {
+				long[] stats = phases[j];
+				if (stats[0] == 0)
+					continue;
+				out.append(' ').append(PHASE_NAMES[j]).append('=').append(stats[1] / 1000)
+						.append('/').append(stats[0]).append('/').append(stats[2] / 1000);
+			}
+			out.append('\n');
+		}
+		return out.toString();
+	}
+
+}
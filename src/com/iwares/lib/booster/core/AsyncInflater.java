@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/AsyncInflater.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import android.content.Context;
+import android.os.Process;
+import android.view.LayoutInflater;
+import android.view.View;
+
+/**
+ * Inflates layouts on a background thread. Inflation which fails on the worker,
+ * for example because a View needs a Looper, is repeated on the thread which
+ * asks for the result. A single worker is used, and every inflation goes through
+ * its own clone of the {@link LayoutInflater}, as the inflater of a Context is
+ * shared and not thread-safe: the main thread may take over a task while the
+ * worker inflates another one. The worker runs at background priority rather
+ * than the lowest one, as the main thread may wait for it in
+ * {@link LazyView#get()}.
+ */
+final class AsyncInflater {
+
+	private static final int PENDING = 0;
+	private static final int RUNNING = 1;
+	private static final int DONE = 2;
+
+	private static ThreadPoolExecutor sExecutor;
+
+	private AsyncInflater() {
+	}
+
+	private static synchronized ThreadPoolExecutor executor() {
+		if (sExecutor == null)
+			sExecutor = Workers.newPool("Booster-Inflater", 1, Process.THREAD_PRIORITY_BACKGROUND);
+		return sExecutor;
+	}
+
+	/**
+	 * Starts inflating 'layoutId' in background.
+	 * 
+	 * @param context The Context to inflate with.
+	 * @param layoutId Id of the layout.
+	 * @param batch The batch which the task belongs to, or null.
+	 * 
+	 */
+	public static Task inflate(Context context, int layoutId, Batch batch) {
+		Task task = new Task(context, layoutId, batch);
+		executor().execute(task);
+		return task;
+	}
+
+	/**
+	 * Inflation of one layout. {@link #get()} returns the inflated View, waiting
+	 * for a worker which is inflating it, or inflating it on the calling thread
+	 * if no worker has started yet.
+	 */
+	static final class Task implements Runnable {
+
+		private final Context mContext;
+
+		private final int mLayoutId;
+
+		private final Batch mBatch;
+
+		private int mState = PENDING;
+
+		private boolean mFinished;
+
+		private View mView;
+
+		public Task(Context context, int layoutId, Batch batch) {
+			mContext = context;
+			mLayoutId = layoutId;
+			mBatch = batch;
+		}
+
+		@Override
+		public void run() {
+			synchronized (this) {
+				// The task was taken over by get().
+				if (mState != PENDING)
+					return;
+				mState = RUNNING;
+			}
+			View view = null;
+			try {
+				view = inflateView();
+			} catch (RuntimeException e) {
+				// Leave it to get(), which runs on the thread owning the Views.
+			}
+			finish(view);
+		}
+
+		public View get() {
+			synchronized (this) {
+				boolean interrupted = false;
+				while (mState == RUNNING) {
+					try {
+						wait();
+					} catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+				if (interrupted)
+					Thread.currentThread().interrupt();
+				if (mView != null)
+					return mView;
+				mState = RUNNING;
+			}
+			View view = null;
+			try {
+				view = inflateView();
+				return view;
+			} finally {
+				finish(view);
+			}
+		}
+
+		private View inflateView() {
+			return LayoutInflater.from(mContext).cloneInContext(mContext).inflate(mLayoutId, null);
+		}
+
+		private void finish(View view) {
+			boolean first;
+			synchronized (this) {
+				mView = view;
+				mState = DONE;
+				first = !mFinished;
+				mFinished = true;
+				notifyAll();
+			}
+			if (first && mBatch != null)
+				mBatch.taskFinished();
+		}
+
+	}
+
+	/**
+	 * Tasks inflating all layouts of one target. When every task has finished,
+	 * the inflated Views are assigned to their fields on the main thread and the
+	 * callback is run.
+	 */
+	static final class Batch implements Runnable {
+
+		private final Object mTarget;
+
+		private final BindingPlan.ViewBinding[] mBindings;
+
+		private final Task[] mTasks;
+
+		private final Runnable mCallback;
+
+		private final AtomicInteger mRemaining;
+
+		public Batch(Object target, BindingPlan.ViewBinding[] bindings, Runnable callback) {
+			mTarget = target;
+			mBindings = bindings;
+			mTasks = new Task[bindings.length];
+			mCallback = callback;
+			mRemaining = new AtomicInteger(bindings.length);
+		}
+
+		/**
+		 * Starts all tasks. Lazy fields receive their {@link LazyView} at once,
+		 * other fields are assigned when all tasks have finished. Every task is
+		 * created before the first one is submitted, so a task finishing early
+		 * never sees the batch half filled, whichever thread calls this.
+		 */
+		public void start(Context context) throws Exception {
+			if (mBindings.length == 0) {
+				Workers.mainHandler().post(this);
+				return;
+			}
+			for (int i = 0, c = mBindings.length; i < c; ++i) {
+				BindingPlan.ViewBinding binding = mBindings[i];
+				mTasks[i] = new Task(context, binding.mId, this);
+				if (binding.mLazy)
+					binding.mField.set(mTarget, new LazyView<View>(mTasks[i]));
+			}
+			ThreadPoolExecutor executor = executor();
+			for (int i = 0, c = mTasks.length; i < c; ++i)
+				executor.execute(mTasks[i]);
+		}
+
+		void taskFinished() {
+			if (mRemaining.decrementAndGet() == 0)
+				Workers.mainHandler().post(this);
+		}
+
+		@Override
+		public void run() {
+			try {
+				for (int i = 0, c = mBindings.length; i < c; ++i) {
+					BindingPlan.ViewBinding binding = mBindings[i];
+					if (!binding.mLazy)
+						binding.mField.set(mTarget, mTasks[i].get());
+				}
+			} catch (Exception e) {
+				throw new RuntimeException("Failed to inflate layouts", e);
+			}
+			if (mCallback != null)
+				mCallback.run();
+		}
+
+	}
+
+}
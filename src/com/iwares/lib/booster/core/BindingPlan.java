@@ -0,0 +1,625 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/BindingPlan.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import android.content.Intent;
+
+import com.iwares.lib.booster.annotation.IntentExtra;
+import com.iwares.lib.booster.annotation.OnClick;
+import com.iwares.lib.booster.annotation.OnClickEx;
+import com.iwares.lib.booster.annotation.OnEditorAction;
+import com.iwares.lib.booster.annotation.OnEditorActionEx;
+import com.iwares.lib.booster.annotation.OnFocusChanged;
+import com.iwares.lib.booster.annotation.OnFocusChangedEx;
+import com.iwares.lib.booster.annotation.OnItemClick;
+import com.iwares.lib.booster.annotation.OnItemClickEx;
+import com.iwares.lib.booster.annotation.OnItemLongClick;
+import com.iwares.lib.booster.annotation.OnItemLongClickEx;
+import com.iwares.lib.booster.annotation.OnItemSelected;
+import com.iwares.lib.booster.annotation.OnItemSelectedEx;
+import com.iwares.lib.booster.annotation.OnLongClick;
+import com.iwares.lib.booster.annotation.OnLongClickEx;
+import com.iwares.lib.booster.annotation.OnTextChanged;
+import com.iwares.lib.booster.annotation.OnTextChangedEx;
+import com.iwares.lib.booster.annotation.OnTouch;
+import com.iwares.lib.booster.annotation.OnTouchEx;
+import com.iwares.lib.booster.annotation.SystemService;
+import com.iwares.lib.booster.annotation.ThreadMode;
+import com.iwares.lib.booster.annotation.ViewById;
+import com.iwares.lib.booster.annotation.ViewByIdEx;
+import com.iwares.lib.booster.annotation.ViewFromLayout;
+
+/**
+ * An immutable description of the annotated members of a class. A plan is
+ * built once per class and replayed by {@link Booster} on every call, so
+ * repeated binds of the same class do not touch annotations again.
+ * 
+ * If the annotation processor has generated a {@code <Class>_Binder} for the
+ * class, the plan is created by that binder and works without reflection.
+ * Otherwise it is built by scanning the declared members of the class.
+ */
+public final class BindingPlan {
+
+	/**
+	 * Implemented by generated {@code <Class>_Binder} classes.
+	 */
+	public interface Factory {
+
+		BindingPlan createPlan();
+
+	}
+
+	public static final int ON_CLICK = 0;
+	public static final int ON_LONG_CLICK = 1;
+	public static final int ON_ITEM_CLICK = 2;
+	public static final int ON_ITEM_LONG_CLICK = 3;
+	public static final int ON_ITEM_SELECTED = 4;
+	public static final int ON_TOUCH = 5;
+	public static final int ON_FOCUS_CHANGED = 6;
+	public static final int ON_EDITOR_ACTION = 7;
+	public static final int ON_TEXT_CHANGED = 8;
+
+	static final int KIND_COUNT = 9;
+
+	/** Flag of {@link ListenerBinding}: deliver touch moves once per frame. */
+	public static final int FLAG_COALESCE = 0x01;
+
+	/** Flag of {@link ListenerBinding}: deliver changed text once per frame. */
+	public static final int FLAG_CONFLATE = 0x02;
+
+	/**
+	 * A field which receives a View found by id, or a View inflated from a
+	 * layout. A lazy field receives a {@link LazyView}, which finds the View on
+	 * first access, or which is inflated in background.
+	 */
+	public static final class ViewBinding {
+
+		public final FieldAccessor mField;
+
+		public final int mId;
+
+		public final boolean mLazy;
+
+		public ViewBinding(FieldAccessor field, int id) {
+			this(field, id, false);
+		}
+
+		public ViewBinding(FieldAccessor field, int id, boolean lazy) {
+			mField = field;
+			mId = id;
+			mLazy = lazy;
+		}
+
+	}
+
+	/**
+	 * A method which is registered as a listener of one or more Views. Events
+	 * of a View may be throttled, so that those within 'minIntervalMs' of the
+	 * last handled one are ignored, and debounced, so that only the last event
+	 * of a burst is handled once the View was quiet for 'debounceMs'. The
+	 * method is invoked on the thread of 'thread', one of the
+	 * {@link ThreadMode} constants. 'flags' holds the FLAG_ constants. The
+	 * invoker must implement the nested interface of {@link Invoker} for 'kind'.
+	 */
+	public static final class ListenerBinding {
+
+		/** Invoker interface of each listener kind, by kind. */
+		private static final Class<?>[] INVOKER_TYPES = {
+			Invoker.OfView.class,
+			Invoker.OfView.class,
+			Invoker.OfItem.class,
+			Invoker.OfItem.class,
+			Invoker.OfItem.class,
+			Invoker.OfTouch.class,
+			Invoker.OfFocus.class,
+			Invoker.OfEditorAction.class,
+			Invoker.OfText.class,
+		};
+
+		public final int mKind;
+
+		public final int[] mIds;
+
+		public final Invoker mInvoker;
+
+		public final String mName;
+
+		public final int mMinIntervalMs;
+
+		public final int mDebounceMs;
+
+		public final int mThread;
+
+		public final int mFlags;
+
+		public ListenerBinding(int kind, int[] ids, Invoker invoker, String name) {
+			this(kind, ids, invoker, name, 0, 0, ThreadMode.MAIN);
+		}
+
+		public ListenerBinding(int kind, int[] ids, Invoker invoker, String name, int minIntervalMs, int debounceMs) {
+			this(kind, ids, invoker, name, minIntervalMs, debounceMs, ThreadMode.MAIN);
+		}
+
+		public ListenerBinding(int kind, int[] ids, Invoker invoker, String name, int minIntervalMs, int debounceMs, int thread) {
+			this(kind, ids, invoker, name, minIntervalMs, debounceMs, thread, 0);
+		}
+
+		public ListenerBinding(int kind, int[] ids, Invoker invoker, String name, int minIntervalMs, int debounceMs,
+				int thread, int flags) {
+			if (kind < 0 || kind >= INVOKER_TYPES.length)
+				throw new RuntimeException("Unexpected listener kind: " + kind);
+			if (!INVOKER_TYPES[kind].isInstance(invoker))
+				throw new RuntimeException("Unexpected invoker of " + name + ", expected " + INVOKER_TYPES[kind].getName());
+			if (thread != ThreadMode.MAIN && thread != ThreadMode.BACKGROUND && thread != ThreadMode.SERIAL)
+				throw new RuntimeException("Unexpected thread of " + name + ", use a ThreadMode constant: " + thread);
+			mKind = kind;
+			mIds = ids;
+			mInvoker = invoker;
+			mName = name;
+			mMinIntervalMs = minIntervalMs;
+			mDebounceMs = debounceMs;
+			mThread = thread;
+			mFlags = flags;
+		}
+
+	}
+
+	/**
+	 * A field which receives a system service.
+	 */
+	public static final class ServiceBinding {
+
+		public final FieldAccessor mField;
+
+		public final Class<?> mType;
+
+		public ServiceBinding(FieldAccessor field, Class<?> type) {
+			mField = field;
+			mType = type;
+		}
+
+	}
+
+	/**
+	 * A field which receives an extra of an Intent.
+	 */
+	public static abstract class ExtraBinding {
+
+		public final String mKey;
+
+		protected ExtraBinding(String key) {
+			mKey = key;
+		}
+
+		public abstract void read(Object target, Intent intent) throws Exception;
+
+		/**
+		 * Puts the field of 'source' into 'intent' as the extra, with the putExtra
+		 * method which the reader expects. Null fields are left out.
+		 */
+		public abstract void write(Object source, Intent intent) throws Exception;
+
+	}
+
+	private static final ViewBinding[] NO_VIEWS = new ViewBinding[0];
+	private static final ListenerBinding[] NO_LISTENERS = new ListenerBinding[0];
+	private static final ServiceBinding[] NO_SERVICES = new ServiceBinding[0];
+	private static final ExtraBinding[] NO_EXTRAS = new ExtraBinding[0];
+
+	/** Plans by class. */
+	private static final HashMap<Class<?>, BindingPlan> sPlans = new HashMap<Class<?>, BindingPlan>();
+
+	/** Merged plans of class hierarchies, keyed by stop class and then by class. */
+	private static final HashMap<Class<?>, HashMap<Class<?>, BindingPlan>> sHierarchyPlans = new HashMap<Class<?>, HashMap<Class<?>, BindingPlan>>();
+
+	public final Class<?> mTargetClass;
+
+	public final ViewBinding[] mViews;
+
+	public final ViewBinding[] mLayouts;
+
+	public final ListenerBinding[] mListeners;
+
+	public final ServiceBinding[] mServices;
+
+	public final ExtraBinding[] mExtras;
+
+	/** Sorted distinct ids of all Views found eagerly, for views and listeners. */
+	final int[] mViewIds;
+
+	/** Trace section names by phase, created when first traced. */
+	String[] mSectionNames;
+
+	/**
+	 * Creates a plan. Any of the arrays may be null if the class has no member
+	 * of that kind.
+	 */
+	public BindingPlan(Class<?> targetClass, ViewBinding[] views, ViewBinding[] layouts,
+			ListenerBinding[] listeners, ServiceBinding[] services, ExtraBinding[] extras) {
+		mTargetClass = targetClass;
+		mViews = views != null ? views : NO_VIEWS;
+		mLayouts = layouts != null ? layouts : NO_VIEWS;
+		mListeners = listeners != null ? listeners : NO_LISTENERS;
+		mServices = services != null ? services : NO_SERVICES;
+		mExtras = extras != null ? extras : NO_EXTRAS;
+		mViewIds = viewIds(mViews, mListeners);
+	}
+
+	private static int[] viewIds(ViewBinding[] views, ListenerBinding[] listeners) {
+		int count = 0;
+		for (int i = 0, c = listeners.length; i < c; ++i)
+			count += listeners[i].mIds.length;
+		int[] ids = new int[views.length + count];
+		count = 0;
+		for (int i = 0, c = views.length; i < c; ++i) {
+			// Lazy Views are found on their own when first used.
+			if (!views[i].mLazy)
+				ids[count++] = views[i].mId;
+		}
+		for (int i = 0, c = listeners.length; i < c; ++i) {
+			int[] listenerIds = listeners[i].mIds;
+			System.arraycopy(listenerIds, 0, ids, count, listenerIds.length);
+			count += listenerIds.length;
+		}
+		Arrays.sort(ids, 0, count);
+		int distinct = 0;
+		for (int i = 0; i < count; ++i) {
+			if (distinct == 0 || ids[distinct - 1] != ids[i])
+				ids[distinct++] = ids[i];
+		}
+		int[] result = new int[distinct];
+		System.arraycopy(ids, 0, result, 0, distinct);
+		return result;
+	}
+
+	/**
+	 * Returns the plan of 'targetClass', creating it on first use.
+	 * 
+	 * @param targetClass Class whose declared members are described.
+	 * 
+	 */
+	static BindingPlan of(Class<?> targetClass) {
+		synchronized (sPlans) {
+			BindingPlan plan = sPlans.get(targetClass);
+			if (plan != null) {
+				BoosterMetrics metrics = BoosterMetrics.sInstance;
+				if (metrics != null)
+					metrics.onPlanCacheHit(targetClass);
+				return plan;
+			}
+		}
+		// Created outside the lock, so that several classes can be created at
+		// the same time. A caller never waits for another thread creating the
+		// same plan, which may run at a lower priority, but creates it as well.
+		// The plans are the same, the first one published is kept.
+		long start = BoosterMetrics.begin();
+		BindingPlan plan = create(targetClass);
+		int size;
+		synchronized (sPlans) {
+			BindingPlan published = sPlans.get(targetClass);
+			if (published != null)
+				return published;
+			sPlans.put(targetClass, plan);
+			size = sPlans.size();
+		}
+		BoosterMetrics metrics = BoosterMetrics.sInstance;
+		if (metrics != null && start != 0)
+			metrics.onPlanCacheMiss(targetClass, System.nanoTime() - start, size);
+		return plan;
+	}
+
+	/**
+	 * Returns the merged plan of 'targetClass' and its superclasses up to, but
+	 * not including, 'stopClass'. Members of superclasses come first. The merged
+	 * plan of every superclass is memoized as well, so subclasses sharing a base
+	 * class share its plan and the base class is scanned only once. An annotated
+	 * method overriding an annotated method of a superclass replaces its
+	 * listeners, instead of being registered twice.
+	 * 
+	 * @param targetClass The most derived class to describe.
+	 * @param stopClass The first superclass which is not described, such as
+	 *        {@code android.app.Activity.class}.
+	 * 
+	 */
+	static BindingPlan of(Class<?> targetClass, Class<?> stopClass) {
+		if (targetClass == null || targetClass == stopClass || targetClass == Object.class)
+			return null;
+		synchronized (sHierarchyPlans) {
+			HashMap<Class<?>, BindingPlan> plans = sHierarchyPlans.get(stopClass);
+			BindingPlan plan = plans != null ? plans.get(targetClass) : null;
+			if (plan != null) {
+				BoosterMetrics metrics = BoosterMetrics.sInstance;
+				if (metrics != null)
+					metrics.onPlanCacheHit(targetClass);
+				return plan;
+			}
+		}
+		// Built without holding the lock, which would serialize all scans. A
+		// plan built concurrently by another thread is the same, the first one
+		// published is kept.
+		BindingPlan plan = merge(targetClass, of(targetClass.getSuperclass(), stopClass), of(targetClass));
+		synchronized (sHierarchyPlans) {
+			HashMap<Class<?>, BindingPlan> plans = sHierarchyPlans.get(stopClass);
+			if (plans == null) {
+				plans = new HashMap<Class<?>, BindingPlan>();
+				sHierarchyPlans.put(stopClass, plans);
+			}
+			BindingPlan published = plans.get(targetClass);
+			if (published != null)
+				return published;
+			plans.put(targetClass, plan);
+			return plan;
+		}
+	}
+
+	private static BindingPlan merge(Class<?> targetClass, BindingPlan base, BindingPlan plan) {
+		if (base == null)
+			return plan;
+		return new BindingPlan(targetClass,
+				concat(base.mViews, plan.mViews),
+				concat(base.mLayouts, plan.mLayouts),
+				concat(notOverridden(base.mListeners, plan.mListeners), plan.mListeners),
+				concat(base.mServices, plan.mServices),
+				concat(base.mExtras, plan.mExtras));
+	}
+
+	/**
+	 * Returns the listeners of 'base' without those of methods overridden by
+	 * 'listeners'. The kind determines the parameters, so a method with the
+	 * same name and kind overrides the one of the base.
+	 */
+	private static ListenerBinding[] notOverridden(ListenerBinding[] base, ListenerBinding[] listeners) {
+		if (listeners.length == 0)
+			return base;
+		ArrayList<ListenerBinding> kept = null;
+		for (int i = 0, c = base.length; i < c; ++i) {
+			ListenerBinding binding = base[i];
+			boolean overridden = false;
+			for (int j = 0, d = listeners.length; j < d && !overridden; ++j)
+				overridden = listeners[j].mKind == binding.mKind && listeners[j].mName.equals(binding.mName);
+			if (overridden && kept == null) {
+				kept = new ArrayList<ListenerBinding>(c);
+				for (int j = 0; j < i; ++j)
+					kept.add(base[j]);
+			} else if (!overridden && kept != null) {
+				kept.add(binding);
+			}
+		}
+		return kept != null ? kept.toArray(new ListenerBinding[kept.size()]) : base;
+	}
+
+	private static <T> T[] concat(T[] first, T[] second) {
+		if (second.length == 0)
+			return first;
+		if (first.length == 0)
+			return second;
+		@SuppressWarnings("unchecked")
+		T[] result = (T[])Array.newInstance(first.getClass().getComponentType(), first.length + second.length);
+		System.arraycopy(first, 0, result, 0, first.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+
+	private static BindingPlan create(Class<?> targetClass) {
+		// A generated binder is always current, prefer it to the asset.
+		Class<?> binderClass;
+		try {
+			binderClass = Class.forName(targetClass.getName() + "_Binder", true, targetClass.getClassLoader());
+		} catch (ClassNotFoundException e) {
+			BindingPlan plan = PlanAsset.read(targetClass);
+			return plan != null ? plan : scan(targetClass);
+		}
+		try {
+			return ((Factory)binderClass.newInstance()).createPlan();
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to create binding plan for " + targetClass.getName(), e);
+		}
+	}
+
+	/** Annotations which register a method as a listener. */
+	private static final Class<?>[] LISTENER_ANNOTATIONS = {
+		OnClick.class, OnClickEx.class,
+		OnLongClick.class, OnLongClickEx.class,
+		OnItemClick.class, OnItemClickEx.class,
+		OnItemLongClick.class, OnItemLongClickEx.class,
+		OnItemSelected.class, OnItemSelectedEx.class,
+		OnTouch.class, OnTouchEx.class,
+		OnFocusChanged.class, OnFocusChangedEx.class,
+		OnEditorAction.class, OnEditorActionEx.class,
+		OnTextChanged.class, OnTextChangedEx.class,
+	};
+
+	/**
+	 * Returns true if 'method' carries a listener annotation, so that no invoker
+	 * is made for methods with other annotations only, such as @Deprecated.
+	 */
+	private static boolean hasListenerAnnotation(Method method) {
+		Annotation[] annotations = method.getDeclaredAnnotations();
+		for (int i = 0, c = annotations.length; i < c; ++i) {
+			Class<?> type = annotations[i].annotationType();
+			for (int j = 0, d = LISTENER_ANNOTATIONS.length; j < d; ++j) {
+				if (type == LISTENER_ANNOTATIONS[j])
+					return true;
+			}
+		}
+		return false;
+	}
+
+	private static BindingPlan scan(Class<?> targetClass) {
+		try {
+			ArrayList<ViewBinding> views = new ArrayList<ViewBinding>();
+			ArrayList<ViewBinding> layouts = new ArrayList<ViewBinding>();
+			ArrayList<ListenerBinding> listeners = new ArrayList<ListenerBinding>();
+			ArrayList<ServiceBinding> services = new ArrayList<ServiceBinding>();
+			ArrayList<ExtraBinding> extras = new ArrayList<ExtraBinding>();
+
+			// Get all fields form target class.
+			Field[] fields = targetClass.getDeclaredFields();
+			for (int i = 0, c = fields.length; i < c; ++i) {
+				Field field = fields[i];
+				// Process @ViewById annotation.
+				ViewById viewById = field.getAnnotation(ViewById.class);
+				if (viewById != null)
+					views.add(new ViewBinding(FieldAccessor.of(field), viewById.value(), field.getType() == LazyView.class));
+				// Process @ViewByIdEx annotation.
+				ViewByIdEx viewByIdEx = field.getAnnotation(ViewByIdEx.class);
+				if (viewByIdEx != null) {
+					int id = ResourceIds.get(viewByIdEx.cls(), viewByIdEx.id());
+					views.add(new ViewBinding(FieldAccessor.of(field), id, field.getType() == LazyView.class));
+				}
+				// Process @ViewFromLayout annotation.
+				ViewFromLayout viewFromLayout = field.getAnnotation(ViewFromLayout.class);
+				if (viewFromLayout != null)
+					layouts.add(new ViewBinding(FieldAccessor.of(field), viewFromLayout.value(), field.getType() == LazyView.class));
+				// Process @SystemService annotation.
+				if (field.isAnnotationPresent(SystemService.class))
+					services.add(new ServiceBinding(FieldAccessor.of(field), field.getType()));
+				// Process @IntentExtra annotation.
+				IntentExtra intentExtra = field.getAnnotation(IntentExtra.class);
+				if (intentExtra != null) {
+					String name = intentExtra.value();
+					if (name.length() == 0)
+						name = field.getName();
+					field.setAccessible(true);
+					extras.add(ExtraBindings.of(name, field));
+				}
+			}
+
+			// Get all methods form target class.
+			Method[] methods = targetClass.getDeclaredMethods();
+			for (int i = 0, c = methods.length; i < c; ++i) {
+				Method method = methods[i];
+				if (!hasListenerAnnotation(method))
+					continue;
+				// All bindings of one method share the same invoker.
+				Invoker invoker = new MethodInvoker(method);
+				String name = method.getName();
+				int first = listeners.size();
+				// View.OnClickListener
+				OnClick onClick = method.getAnnotation(OnClick.class);
+				if (onClick != null)
+					listeners.add(new ListenerBinding(ON_CLICK, onClick.value(), invoker, name,
+							onClick.minIntervalMs(), onClick.debounceMs(), onClick.thread()));
+				OnClickEx onClickEx = method.getAnnotation(OnClickEx.class);
+				if (onClickEx != null)
+					listeners.add(new ListenerBinding(ON_CLICK, ids(onClickEx.cls(), onClickEx.id()), invoker, name,
+							onClickEx.minIntervalMs(), onClickEx.debounceMs(), onClickEx.thread()));
+				// View.OnLongClickListener
+				OnLongClick onLongClick = method.getAnnotation(OnLongClick.class);
+				if (onLongClick != null)
+					listeners.add(new ListenerBinding(ON_LONG_CLICK, onLongClick.value(), invoker, name));
+				OnLongClickEx onLongClickEx = method.getAnnotation(OnLongClickEx.class);
+				if (onLongClickEx != null)
+					listeners.add(new ListenerBinding(ON_LONG_CLICK, ids(onLongClickEx.cls(), onLongClickEx.id()), invoker, name));
+				// AdapterView.OnItemClickListener
+				OnItemClick onItemClick = method.getAnnotation(OnItemClick.class);
+				if (onItemClick != null)
+					listeners.add(new ListenerBinding(ON_ITEM_CLICK, onItemClick.value(), invoker, name,
+							onItemClick.minIntervalMs(), onItemClick.debounceMs(), onItemClick.thread()));
+				OnItemClickEx onItemClickEx = method.getAnnotation(OnItemClickEx.class);
+				if (onItemClickEx != null)
+					listeners.add(new ListenerBinding(ON_ITEM_CLICK, ids(onItemClickEx.cls(), onItemClickEx.id()), invoker, name,
+							onItemClickEx.minIntervalMs(), onItemClickEx.debounceMs(), onItemClickEx.thread()));
+				// AdapterView.OnItemLongClickListener
+				OnItemLongClick onItemLongClick = method.getAnnotation(OnItemLongClick.class);
+				if (onItemLongClick != null)
+					listeners.add(new ListenerBinding(ON_ITEM_LONG_CLICK, onItemLongClick.value(), invoker, name));
+				OnItemLongClickEx onItemLongClickEx = method.getAnnotation(OnItemLongClickEx.class);
+				if (onItemLongClickEx != null)
+					listeners.add(new ListenerBinding(ON_ITEM_LONG_CLICK, ids(onItemLongClickEx.cls(), onItemLongClickEx.id()), invoker, name));
+				// AdapterView.OnItemSelectedListener
+				OnItemSelected onItemSelected = method.getAnnotation(OnItemSelected.class);
+				if (onItemSelected != null)
+					listeners.add(new ListenerBinding(ON_ITEM_SELECTED, onItemSelected.value(), invoker, name,
+							0, 0, onItemSelected.thread()));
+				OnItemSelectedEx onItemSelectedEx = method.getAnnotation(OnItemSelectedEx.class);
+				if (onItemSelectedEx != null)
+					listeners.add(new ListenerBinding(ON_ITEM_SELECTED, ids(onItemSelectedEx.cls(), onItemSelectedEx.id()), invoker, name,
+							0, 0, onItemSelectedEx.thread()));
+				// View.OnTouchListener
+				OnTouch onTouch = method.getAnnotation(OnTouch.class);
+				if (onTouch != null)
+					listeners.add(new ListenerBinding(ON_TOUCH, onTouch.value(), invoker, name,
+							0, 0, ThreadMode.MAIN, onTouch.coalesce() ? FLAG_COALESCE : 0));
+				OnTouchEx onTouchEx = method.getAnnotation(OnTouchEx.class);
+				if (onTouchEx != null)
+					listeners.add(new ListenerBinding(ON_TOUCH, ids(onTouchEx.cls(), onTouchEx.id()), invoker, name,
+							0, 0, ThreadMode.MAIN, onTouchEx.coalesce() ? FLAG_COALESCE : 0));
+				// View.OnFocusChangedListener
+				OnFocusChanged onFocusChanged = method.getAnnotation(OnFocusChanged.class);
+				if (onFocusChanged != null)
+					listeners.add(new ListenerBinding(ON_FOCUS_CHANGED, onFocusChanged.value(), invoker, name,
+							0, 0, onFocusChanged.thread()));
+				OnFocusChangedEx onFocusChangedEx = method.getAnnotation(OnFocusChangedEx.class);
+				if (onFocusChangedEx != null)
+					listeners.add(new ListenerBinding(ON_FOCUS_CHANGED, ids(onFocusChangedEx.cls(), onFocusChangedEx.id()), invoker, name,
+							0, 0, onFocusChangedEx.thread()));
+				// TextView.OnEditorActionListener
+				OnEditorAction onEditorAction = method.getAnnotation(OnEditorAction.class);
+				if (onEditorAction != null)
+					listeners.add(new ListenerBinding(ON_EDITOR_ACTION, onEditorAction.value(), invoker, name));
+				OnEditorActionEx onEditorActionEx = method.getAnnotation(OnEditorActionEx.class);
+				if (onEditorActionEx != null)
+					listeners.add(new ListenerBinding(ON_EDITOR_ACTION, ids(onEditorActionEx.cls(), onEditorActionEx.id()), invoker, name));
+				// TextWatcher
+				OnTextChanged onTextChanged = method.getAnnotation(OnTextChanged.class);
+				if (onTextChanged != null)
+					listeners.add(new ListenerBinding(ON_TEXT_CHANGED, onTextChanged.value(), invoker, name,
+							0, onTextChanged.debounceMs(), ThreadMode.MAIN, onTextChanged.conflate() ? FLAG_CONFLATE : 0));
+				OnTextChangedEx onTextChangedEx = method.getAnnotation(OnTextChangedEx.class);
+				if (onTextChangedEx != null)
+					listeners.add(new ListenerBinding(ON_TEXT_CHANGED, ids(onTextChangedEx.cls(), onTextChangedEx.id()), invoker, name,
+							0, onTextChangedEx.debounceMs(), ThreadMode.MAIN, onTextChangedEx.conflate() ? FLAG_CONFLATE : 0));
+				for (int j = first, d = listeners.size(); j < d; ++j)
+					MethodInvoker.checkSignature(method, listeners.get(j).mKind);
+			}
+
+			return new BindingPlan(targetClass,
+					views.isEmpty() ? null : views.toArray(new ViewBinding[views.size()]),
+					layouts.isEmpty() ? null : layouts.toArray(new ViewBinding[layouts.size()]),
+					listeners.isEmpty() ? null : listeners.toArray(new ListenerBinding[listeners.size()]),
+					services.isEmpty() ? null : services.toArray(new ServiceBinding[services.size()]),
+					extras.isEmpty() ? null : extras.toArray(new ExtraBinding[extras.size()]));
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to build binding plan for " + targetClass.getName(), e);
+		}
+	}
+
+	private static int[] ids(Class<?> cls, String[] names) {
+		int[] ids = new int[names.length];
+		for (int i = 0, c = names.length; i < c; ++i)
+			ids[i] = ResourceIds.get(cls, names[i]);
+		return ids;
+	}
+
+}
@@ -24,73 +24,27 @@
 package com.iwares.lib.booster.core;
 
 import java.lang.ref.WeakReference;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
 
-import android.accounts.AccountManager;
 import android.annotation.TargetApi;
-import android.app.ActivityManager;
-import android.app.AlarmManager;
-import android.app.DownloadManager;
-import android.app.KeyguardManager;
-import android.app.NotificationManager;
-import android.app.SearchManager;
-import android.app.UiModeManager;
-import android.app.admin.DevicePolicyManager;
-import android.content.ClipboardManager;
 import android.content.Context;
 import android.content.Intent;
-import android.hardware.SensorManager;
-import android.hardware.display.DisplayManager;
-import android.hardware.input.InputManager;
-import android.hardware.usb.UsbManager;
-import android.location.LocationManager;
-import android.media.AudioManager;
-import android.media.MediaRouter;
-import android.net.ConnectivityManager;
-import android.net.nsd.NsdManager;
-import android.net.wifi.WifiManager;
-import android.net.wifi.p2p.WifiP2pManager;
-import android.nfc.NfcManager;
 import android.os.Build;
-import android.os.DropBoxManager;
-import android.os.PowerManager;
-import android.os.UserManager;
-import android.os.Vibrator;
-import android.os.storage.StorageManager;
-import android.service.wallpaper.WallpaperService;
-import android.telephony.TelephonyManager;
+import android.os.Handler;
+import android.os.SystemClock;
+import android.text.Editable;
+import android.text.TextWatcher;
 import android.view.KeyEvent;
-import android.view.LayoutInflater;
 import android.view.MotionEvent;
 import android.view.View;
-import android.view.WindowManager;
-import android.view.accessibility.AccessibilityManager;
-import android.view.inputmethod.InputMethodManager;
-import android.view.textservice.TextServicesManager;
 import android.widget.AdapterView;
 import android.widget.TextView;
 
 import com.iwares.lib.booster.annotation.IntentExtra;
-import com.iwares.lib.booster.annotation.OnClick;
-import com.iwares.lib.booster.annotation.OnClickEx;
-import com.iwares.lib.booster.annotation.OnEditorAction;
-import com.iwares.lib.booster.annotation.OnEditorActionEx;
-import com.iwares.lib.booster.annotation.OnFocusChanged;
-import com.iwares.lib.booster.annotation.OnFocusChangedEx;
-import com.iwares.lib.booster.annotation.OnItemClick;
-import com.iwares.lib.booster.annotation.OnItemClickEx;
-import com.iwares.lib.booster.annotation.OnItemLongClick;
-import com.iwares.lib.booster.annotation.OnItemLongClickEx;
-import com.iwares.lib.booster.annotation.OnItemSelected;
-import com.iwares.lib.booster.annotation.OnItemSelectedEx;
-import com.iwares.lib.booster.annotation.OnLongClick;
-import com.iwares.lib.booster.annotation.OnLongClickEx;
-import com.iwares.lib.booster.annotation.OnTouch;
-import com.iwares.lib.booster.annotation.OnTouchEx;
 import com.iwares.lib.booster.annotation.SystemService;
+import com.iwares.lib.booster.annotation.ThreadMode;
 import com.iwares.lib.booster.annotation.ViewById;
-import com.iwares.lib.booster.annotation.ViewByIdEx;
 import com.iwares.lib.booster.annotation.ViewFromLayout;
 
 public class Booster {
@@ -109,41 +63,32 @@ public class Booster {
 	 */
 	public static final void injectViews(Object target, Class<?> targetClass, Object source) {
 		try {
-			// Prepare findViewById method for injecting @ViewById fields.
-			Method findViewById = null;
-			findViewById = source.getClass().getMethod("findViewById", int.class);
-
-			// Get all fields form target object.
-			Field[] fields = targetClass.getDeclaredFields();
-			for (int i = 0, c = fields.length; i < c; ++i) {
-				Field field = fields[i];
-				// Process @ViewById annotation.
-				if (field.isAnnotationPresent(ViewById.class)) {
-					int id = field.getAnnotation(ViewById.class).value();
-					View view = (View)findViewById.invoke(source, id);
-					boolean isAccessible = field.isAccessible();
-					field.setAccessible(true);
-					field.set(target, view);
-					field.setAccessible(isAccessible);
-				}
-				// Process @ViewByIdEx annotation.
-				if (field.isAnnotationPresent(ViewByIdEx.class)) {
-					ViewByIdEx annotation = field.getAnnotation(ViewByIdEx.class);
-					Class<?> cls = annotation.cls();
-					String ids = annotation.id();
-					int id = cls.getField(ids).getInt(null);
-					View view = (View)findViewById.invoke(source, id);
-					boolean isAccessible = field.isAccessible();
-					field.setAccessible(true);
-					field.set(target, view);
-					field.setAccessible(isAccessible);
-				}
-			}
+			BindingPlan plan = BindingPlan.of(targetClass);
+			if (plan.mViews.length != 0)
+				injectViews(plan, target, new ViewLookup(source, plan.mViewIds));
 		} catch (Exception e) {
 			throw new RuntimeException("Failed to inject Views", e);
 		}
 	}
 
+	private static void injectViews(BindingPlan plan, Object target, ViewLookup lookup) throws Exception {
+		BoosterTracer tracer = BoosterTracer.begin(plan, BoosterMetrics.PHASE_VIEWS);
+		long start = BoosterMetrics.begin();
+		try {
+			BindingPlan.ViewBinding[] views = plan.mViews;
+			for (int i = 0, c = views.length; i < c; ++i) {
+				BindingPlan.ViewBinding binding = views[i];
+				if (binding.mLazy)
+					binding.mField.set(target, new LazyView<View>(lookup.mSource, lookup.mViewFinder, binding.mId));
+				else
+					binding.mField.set(target, lookup.find(binding.mId));
+			}
+		} finally {
+			BoosterMetrics.end(plan, BoosterMetrics.PHASE_VIEWS, start);
+			BoosterTracer.end(tracer);
+		}
+	}
+
 	/**
 	 * Is equivalent to calling {@link #injectViews(object, objectClass, object)
 	 * 
@@ -168,21 +113,36 @@ public class Booster {
 	 * @see {@link ViewById}
 	 * @see {@link #injectViews(Object, Class, Object)}
 	 * @see {@link #injectViews(Object, Class)}
+	 * @see {@link Unbinder}
 	 * 
 	 */
 	public static final void siphonViews(Object target, Class<?> targetClass) {
+		siphonViews(BindingPlan.of(targetClass), target);
+	}
+
+	/**
+	 * Is equivalent to calling {@link #siphonViews(Object, Class)} for
+	 * 'targetClass' and each of its superclasses up to, but not including,
+	 * 'stopClass'.
+	 * 
+	 * @param target An object who's fields will be siphoned.
+	 * @param targetClass Class of the target.
+	 * @param stopClass The first superclass which is not siphoned.
+	 * 
+	 * @see {@link #bind(Object, Class, Class, Object)}
+	 * 
+	 */
+	public static final void siphonViews(Object target, Class<?> targetClass, Class<?> stopClass) {
+		BindingPlan plan = BindingPlan.of(targetClass, stopClass);
+		if (plan != null)
+			siphonViews(plan, target);
+	}
+
+	private static void siphonViews(BindingPlan plan, Object target) {
 		try {
-			Field[] fields = targetClass.getDeclaredFields();
-			for (int i = 0, c = fields.length; i < c; ++i) {
-				Field field = fields[i];
-				if (field.isAnnotationPresent(ViewById.class)
-						|| field.isAnnotationPresent(ViewByIdEx.class)) {
-					boolean isAccessible = field.isAccessible();
-					field.setAccessible(true);
-					field.set(target, null);
-					field.setAccessible(isAccessible);
-				}
-			}
+			BindingPlan.ViewBinding[] views = plan.mViews;
+			for (int i = 0, c = views.length; i < c; ++i)
+				views[i].mField.set(target, null);
 		} catch (Exception e) {
 			throw new RuntimeException("Failed to inject Views", e);
 		}
@@ -194,6 +154,11 @@ public class Booster {
 	 * method working correctly, the 'source' object must be a Context or provides a
 	 * {@code Context getContext()} method.
 	 * 
+	 * Views of layouts pooled in {@link ViewPool} may be reused Views, which are
+	 * not reset: they keep the text, scroll position, visibility, pressed state,
+	 * listeners and other state they had when they were recycled. Set every state
+	 * the target relies on after this method returns.
+	 * 
 	 * @param target An object who's fields will be set to inflated {@link View}s.
 	 * @param targetClass Class of the target.
 	 * @param source An {@link Context} object or an an object which provides a
@@ -204,40 +169,113 @@ public class Booster {
 	 */
 	public static final void inflateLayouts(Object target, Class<?> targetClass, Object source) {
 		try {
-			// Prepare Context object for inflating @ViewFromLayout fields.
-			Context context = null;
-			try {
-				Method getContext = source.getClass().getMethod("getContext");
-				Object result = getContext.invoke(source);
-				if (result == null || !(result instanceof Context))
-					throw new NullPointerException();
-				context = (Context)result;
-			} catch (Exception e) {
-				if (source instanceof Context)
-					context = (Context)source;
+			BindingPlan plan = BindingPlan.of(targetClass);
+			if (plan.mLayouts.length != 0)
+				inflateLayouts(plan, target, contextOf(source));
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to inflate layouts", e);
+		}
+	}
+
+	private static void inflateLayouts(BindingPlan plan, Object target, Context context) throws Exception {
+		BoosterTracer tracer = BoosterTracer.begin(plan, BoosterMetrics.PHASE_LAYOUTS);
+		long start = BoosterMetrics.begin();
+		try {
+			BindingPlan.ViewBinding[] layouts = plan.mLayouts;
+			for (int i = 0, c = layouts.length; i < c; ++i) {
+				BindingPlan.ViewBinding binding = layouts[i];
+				if (binding.mLazy)
+					binding.mField.set(target, new LazyView<View>(AsyncInflater.inflate(context, binding.mId, null)));
+				else
+					binding.mField.set(target, inflate(context, binding.mId));
 			}
-			if (context == null)
-				throw new RuntimeException("Context not found.");
-
-			// Get all fields form target object.
-			Field[] fields = targetClass.getDeclaredFields();
-			for (int i = 0, c = fields.length; i < c; ++i) {
-				Field field = fields[i];
-				// Process @ViewFromLayout annotation.
-				if (field.isAnnotationPresent(ViewFromLayout.class)) {
-					int id = field.getAnnotation(ViewFromLayout.class).value();
-					View view = View.inflate(context, id, null);
-					boolean isAccessible = field.isAccessible();
-					field.setAccessible(true);
-					field.set(target, view);
-					field.setAccessible(isAccessible);
-				}
+		} finally {
+			BoosterMetrics.end(plan, BoosterMetrics.PHASE_LAYOUTS, start);
+			BoosterTracer.end(tracer);
+		}
+	}
+
+	/**
+	 * Returns a pooled View of 'layoutId', or inflates a new one.
+	 */
+	private static View inflate(Context context, int layoutId) {
+		View view = ViewPool.obtain(context, layoutId);
+		return view != null ? view : View.inflate(context, layoutId, null);
+	}
+
+	/**
+	 * This method puts {@link View}s inflated according to {@link ViewFromLayout}
+	 * annotations of 'target' back into the {@link ViewPool} and sets their
+	 * fields to null. Views of layouts not pooled are just dropped. Call it when
+	 * the target, such as a dialog, is dismissed and will not use the Views any
+	 * more.
+	 * 
+	 * The Views are pooled as they are, with their state and listeners, and are
+	 * handed out by {@link #inflateLayouts} in that state. Remove listeners which
+	 * refer to the target before recycling, so the pool does not keep it alive.
+	 * 
+	 * @param target An object who's fields are set to inflated {@link View}s.
+	 * @param targetClass Class of the target.
+	 * 
+	 * @see {@link ViewPool}
+	 * 
+	 */
+	public static final void recycleLayouts(Object target, Class<?> targetClass) {
+		try {
+			BindingPlan.ViewBinding[] layouts = BindingPlan.of(targetClass).mLayouts;
+			for (int i = 0, c = layouts.length; i < c; ++i) {
+				BindingPlan.ViewBinding binding = layouts[i];
+				// LazyViews may still be inflating and are left alone.
+				if (binding.mLazy)
+					continue;
+				View view = (View)binding.mField.get(target);
+				if (view == null)
+					continue;
+				binding.mField.set(target, null);
+				ViewPool.recycle(binding.mId, view);
 			}
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to recycle layouts", e);
+		}
+	}
+
+	/**
+	 * This method inflates {@link View}s according to {@link ViewFromLayout}
+	 * annotations of 'target' on background threads. {@link LazyView} fields are
+	 * set at once, other fields are set on the main thread when all layouts have
+	 * been inflated, and then 'callback' is run on the main thread. Layouts which
+	 * can not be inflated in background are inflated on the main thread.
+	 * 
+	 * @param target An object who's fields will be set to inflated {@link View}s.
+	 * @param targetClass Class of the target.
+	 * @param source An {@link Context} object or an an object which provides a
+	 *        {@code Context getContext()} method.
+	 * @param callback A Runnable to run when all fields are set, or null.
+	 * 
+	 * @see {@link ViewFromLayout}
+	 * 
+	 */
+	public static final void inflateLayoutsAsync(Object target, Class<?> targetClass, Object source, Runnable callback) {
+		try {
+			BindingPlan plan = BindingPlan.of(targetClass);
+			new AsyncInflater.Batch(target, plan.mLayouts, callback).start(contextOf(source));
 		} catch (Exception e) {
 			throw new RuntimeException("Failed to inflate layouts", e);
 		}
 	}
 
+	/**
+	 * Returns the {@link Context} of 'source', as resolved by {@link SourceResolver}
+	 * for its class.
+	 */
+	private static Context contextOf(Object source) throws Exception {
+		SourceResolver.ContextProvider provider = SourceResolver.of(source.getClass()).mContextProvider;
+		Context context = provider != null ? provider.contextOf(source) : null;
+		if (context == null)
+			throw new RuntimeException("Context not found.");
+		return context;
+	}
+
 	/**
 	 * Is equivalent to calling {@link #inflateLayouts(object, object)}
 	 * 
@@ -252,148 +290,403 @@ public class Booster {
 		inflateLayouts(object, objectClass, object);
 	}
 
-	private static class ViewOnClickListener implements View.OnClickListener {
+	/**
+	 * Base of listeners which deliver events of a View to a method of a weakly
+	 * referenced receiver. Listeners which debounce events post themselves to
+	 * the main thread and deliver the last event in {@link #run()}.
+	 */
+	static abstract class BoundListener implements Runnable {
+
+		/**
+		 * The listener last registered for each View and kind, for Views which
+		 * have no getter of their listener. Weakly referenced, since the View
+		 * holds its listener anyway.
+		 */
+		private static final WeakHashMap<View, WeakReference<?>[]> sRegistered = new WeakHashMap<View, WeakReference<?>[]>();
+
+		public final View mView;
 
 		public final WeakReference<Object> mReceiverRef;
 
-		public final Method mMethod;
+		public final BindingPlan.ListenerBinding mBinding;
+
+		private String mSectionName;
 
-		public ViewOnClickListener(Object receiver, Method method) {
+		/** Uptime of the last delivered event, or 0. */
+		private long mDeliveredAt;
+
+		public BoundListener(View view, Object receiver, BindingPlan.ListenerBinding binding) {
+			mView = view;
 			mReceiverRef = new WeakReference<Object>(receiver);
-			mMethod = method;
+			mBinding = binding;
+		}
+
+		@Override
+		public void run() {
+		}
+
+		/**
+		 * Sets this as the listener of the View.
+		 */
+		abstract void register();
+
+		/**
+		 * Removes the listener from the View, unless another listener has been
+		 * set since, and drops pending events.
+		 */
+		abstract void unregister();
+
+		/**
+		 * Records this as the listener of its View, for {@link #release()}.
+		 */
+		protected final void claim() {
+			synchronized (sRegistered) {
+				WeakReference<?>[] listeners = sRegistered.get(mView);
+				if (listeners == null) {
+					listeners = new WeakReference<?>[BindingPlan.KIND_COUNT];
+					sRegistered.put(mView, listeners);
+				}
+				listeners[mBinding.mKind] = new WeakReference<BoundListener>(this);
+			}
+		}
+
+		/**
+		 * Returns true if this is still the listener of its View, as recorded by
+		 * {@link #claim()}, and forgets it. A later bind of a reused View must
+		 * keep its listener. Listeners set by other code than Booster are not
+		 * recorded.
+		 */
+		protected final boolean release() {
+			synchronized (sRegistered) {
+				WeakReference<?>[] listeners = sRegistered.get(mView);
+				int kind = mBinding.mKind;
+				if (listeners == null || listeners[kind] == null || listeners[kind].get() != this)
+					return false;
+				listeners[kind] = null;
+				return true;
+			}
+		}
+
+		/**
+		 * Drops the event debounced but not yet delivered, if any.
+		 */
+		protected final void cancel() {
+			if (mBinding.mDebounceMs != 0)
+				Workers.mainHandler().removeCallbacks(this);
+		}
+
+		/**
+		 * Delays delivery until no further event arrives for the debounce time.
+		 */
+		protected final void debounce() {
+			Handler handler = Workers.mainHandler();
+			handler.removeCallbacks(this);
+			handler.postDelayed(this, mBinding.mDebounceMs);
+		}
+
+		/**
+		 * Returns true if the event comes within the minimum interval after the
+		 * last delivered event, and must be dropped.
+		 */
+		protected final boolean throttled() {
+			int minIntervalMs = mBinding.mMinIntervalMs;
+			if (minIntervalMs == 0)
+				return false;
+			long now = SystemClock.uptimeMillis();
+			if (mDeliveredAt != 0 && now - mDeliveredAt < minIntervalMs)
+				return true;
+			mDeliveredAt = now;
+			return false;
+		}
+
+		/**
+		 * Counts an event for 'receiver' and begins its trace section. Returns the
+		 * tracer to end the section with, or null.
+		 */
+		protected final BoosterTracer dispatch(Object receiver) {
+			BoosterMetrics.dispatch(mBinding);
+			BoosterTracer tracer = BoosterTracer.sInstance;
+			if (tracer == null)
+				return null;
+			if (mSectionName == null)
+				mSectionName = BoosterTracer.sectionName(receiver.getClass().getName() + "." + mBinding.mName);
+			tracer.beginSection(mSectionName);
+			return tracer;
+		}
+
+	}
+
+	private static class ViewOnClickListener extends BoundListener implements View.OnClickListener {
+
+		private View mPendingView;
+
+		public ViewOnClickListener(View view, Object receiver, BindingPlan.ListenerBinding binding) {
+			super(view, receiver, binding);
+		}
+
+		@Override
+		void register() {
+			mView.setOnClickListener(this);
+			claim();
+		}
+
+		@Override
+		void unregister() {
+			cancel();
+			if (release())
+				mView.setOnClickListener(null);
 		}
 
 		@Override
 		public void onClick(View v) {
+			if (mBinding.mDebounceMs != 0) {
+				mPendingView = v;
+				debounce();
+				return;
+			}
+			deliver(v);
+		}
+
+		@Override
+		public void run() {
+			View v = mPendingView;
+			mPendingView = null;
+			deliver(v);
+		}
+
+		private void deliver(final View v) {
+			Object receiver = mReceiverRef.get();
+			if (receiver == null || throttled())
+				return;
+			if (mBinding.mThread == ThreadMode.MAIN) {
+				invoke(v);
+				return;
+			}
+			EventExecutor.execute(receiver, mBinding.mThread, new Runnable() {
+				@Override
+				public void run() {
+					invoke(v);
+				}
+			});
+		}
+
+		private void invoke(View v) {
+			Object receiver = mReceiverRef.get();
+			if (receiver == null)
+				return;
+			BoosterTracer tracer = dispatch(receiver);
 			try {
-				Object receiver = mReceiverRef.get();
-				if (receiver == null)
-					return;
-				Method method = mMethod;
-				boolean isAccessible = method.isAccessible();
-				method.setAccessible(true);
-				method.invoke(receiver, v);
-				method.setAccessible(isAccessible);
+				((Invoker.OfView)mBinding.mInvoker).invoke(receiver, v);
 			} catch (Exception e) {
-				throw new RuntimeException("Faild to invoke" + mMethod.getName(), e);
+				throw new RuntimeException("Faild to invoke" + mBinding.mName, e);
+			} finally {
+				BoosterTracer.end(tracer);
 			}
 		}
 
 	}
 
-	private static class ViewOnLongClickListener implements View.OnLongClickListener {
+	private static class ViewOnLongClickListener extends BoundListener implements View.OnLongClickListener {
 
-		public final WeakReference<Object> mReceiverRef;
+		public ViewOnLongClickListener(View view, Object receiver, BindingPlan.ListenerBinding binding) {
+			super(view, receiver, binding);
+		}
 
-		public final Method mMethod;
+		@Override
+		void register() {
+			mView.setOnLongClickListener(this);
+			claim();
+		}
 
-		public ViewOnLongClickListener(Object receiver, Method method) {
-			mReceiverRef = new WeakReference<Object>(receiver);
-			mMethod = method;
+		@Override
+		void unregister() {
+			cancel();
+			if (release())
+				mView.setOnLongClickListener(null);
 		}
 
 		@Override
 		public boolean onLongClick(View v) {
+			Object receiver = mReceiverRef.get();
+			if (receiver == null)
+				return false;
+			BoosterTracer tracer = dispatch(receiver);
 			try {
-				Object receiver = mReceiverRef.get();
-				if (receiver == null)
-					return false;
-				Method method = mMethod;
-				boolean isAccessible = method.isAccessible();
-				method.setAccessible(true);
-				boolean result = (Boolean)mMethod.invoke(receiver, v);
-				method.setAccessible(isAccessible);
-				return result;
+				return ((Invoker.OfView)mBinding.mInvoker).invoke(receiver, v);
 			} catch (Exception e) {
-				throw new RuntimeException("Faild to invoke" + mMethod.getName(), e);
+				throw new RuntimeException("Faild to invoke" + mBinding.mName, e);
+			} finally {
+				BoosterTracer.end(tracer);
 			}
 		}
 
 	}
 
-	private static class AdapterViewOnItemClickListener implements AdapterView.OnItemClickListener {
+	private static class AdapterViewOnItemClickListener extends BoundListener implements AdapterView.OnItemClickListener {
 
-		public final WeakReference<Object> mReceiverRef;
+		private AdapterView<?> mPendingParent;
 
-		public final Method mMethod;
+		private View mPendingView;
 
-		public AdapterViewOnItemClickListener(Object receiver, Method method) {
-			mReceiverRef = new WeakReference<Object>(receiver);
-			mMethod = method;
+		private int mPendingPosition;
+
+		private long mPendingId;
+
+		public AdapterViewOnItemClickListener(View view, Object receiver, BindingPlan.ListenerBinding binding) {
+			super(view, receiver, binding);
+		}
+
+		@Override
+		void register() {
+			((AdapterView<?>)mView).setOnItemClickListener(this);
+		}
+
+		@Override
+		void unregister() {
+			cancel();
+			AdapterView<?> view = (AdapterView<?>)mView;
+			if (view.getOnItemClickListener() == this)
+				view.setOnItemClickListener(null);
 		}
 
 		@Override
 		public void onItemClick(AdapterView<?> parent, View view, int position, long id) {
+			if (mBinding.mDebounceMs != 0) {
+				mPendingParent = parent;
+				mPendingView = view;
+				mPendingPosition = position;
+				mPendingId = id;
+				debounce();
+				return;
+			}
+			deliver(parent, view, position, id);
+		}
+
+		@Override
+		public void run() {
+			AdapterView<?> parent = mPendingParent;
+			View view = mPendingView;
+			mPendingParent = null;
+			mPendingView = null;
+			deliver(parent, view, mPendingPosition, mPendingId);
+		}
+
+		private void deliver(final AdapterView<?> parent, final View view, final int position, final long id) {
+			Object receiver = mReceiverRef.get();
+			if (receiver == null || throttled())
+				return;
+			if (mBinding.mThread == ThreadMode.MAIN) {
+				invoke(parent, view, position, id);
+				return;
+			}
+			EventExecutor.execute(receiver, mBinding.mThread, new Runnable() {
+				@Override
+				public void run() {
+					invoke(parent, view, position, id);
+				}
+			});
+		}
+
+		private void invoke(AdapterView<?> parent, View view, int position, long id) {
+			Object receiver = mReceiverRef.get();
+			if (receiver == null)
+				return;
+			BoosterTracer tracer = dispatch(receiver);
 			try {
-				Object receiver = mReceiverRef.get();
-				if (receiver == null)
-					return;
-				Method method = mMethod;
-				boolean isAccessible = method.isAccessible();
-				method.setAccessible(true);
-				mMethod.invoke(receiver, parent, view, position, id);
-				method.setAccessible(isAccessible);
+				((Invoker.OfItem)mBinding.mInvoker).invoke(receiver, parent, view, position, id);
 			} catch (Exception e) {
-				throw new RuntimeException("Faild to invoke" + mMethod.getName(), e);
+				throw new RuntimeException("Faild to invoke" + mBinding.mName, e);
+			} finally {
+				BoosterTracer.end(tracer);
 			}
 		}
 
 	}
 
-	private static class AdapterViewOnItemLongClickListener implements AdapterView.OnItemLongClickListener {
+	private static class AdapterViewOnItemLongClickListener extends BoundListener implements AdapterView.OnItemLongClickListener {
 
-		public final WeakReference<Object> mReceiverRef;
+		public AdapterViewOnItemLongClickListener(View view, Object receiver, BindingPlan.ListenerBinding binding) {
+			super(view, receiver, binding);
+		}
 
-		public final Method mMethod;
+		@Override
+		void register() {
+			((AdapterView<?>)mView).setOnItemLongClickListener(this);
+		}
 
-		public AdapterViewOnItemLongClickListener(Object receiver, Method method) {
-			mReceiverRef = new WeakReference<Object>(receiver);
-			mMethod = method;
+		@Override
+		void unregister() {
+			cancel();
+			AdapterView<?> view = (AdapterView<?>)mView;
+			if (view.getOnItemLongClickListener() == this)
+				view.setOnItemLongClickListener(null);
 		}
 
 		@Override
 		public boolean onItemLongClick(AdapterView<?> parent, View view, int position, long id) {
+			Object receiver = mReceiverRef.get();
+			if (receiver == null)
+				return false;
+			BoosterTracer tracer = dispatch(receiver);
 			try {
-				Object receiver = mReceiverRef.get();
-				if (receiver == null)
-					return false;
-				Method method = mMethod;
-				boolean isAccessible = method.isAccessible();
-				method.setAccessible(true);
-				boolean result = (Boolean)mMethod.invoke(receiver, parent, view, position, id);
-				method.setAccessible(isAccessible);
+				boolean result = ((Invoker.OfItem)mBinding.mInvoker).invoke(receiver, parent, view, position, id);
 				return result;
 			} catch (Exception e) {
-				throw new RuntimeException("Faild to invoke" + mMethod.getName(), e);
+				throw new RuntimeException("Faild to invoke" + mBinding.mName, e);
+			} finally {
+				BoosterTracer.end(tracer);
 			}
 		}
 
 	}
 
-	private static class AdapterViewOnItemSelectedListener implements AdapterView.OnItemSelectedListener {
+	private static class AdapterViewOnItemSelectedListener extends BoundListener implements AdapterView.OnItemSelectedListener {
 
-		public final WeakReference<Object> mReceiverRef;
+		public AdapterViewOnItemSelectedListener(View view, Object receiver, BindingPlan.ListenerBinding binding) {
+			super(view, receiver, binding);
+		}
 
-		public final Method mMethod;
+		@Override
+		void register() {
+			((AdapterView<?>)mView).setOnItemSelectedListener(this);
+		}
 
-		public AdapterViewOnItemSelectedListener(Object receiver, Method method) {
-			mReceiverRef = new WeakReference<Object>(receiver);
-			mMethod = method;
+		@Override
+		void unregister() {
+			cancel();
+			AdapterView<?> view = (AdapterView<?>)mView;
+			if (view.getOnItemSelectedListener() == this)
+				view.setOnItemSelectedListener(null);
 		}
 
 		@Override
-		public void onItemSelected(AdapterView<?> parent, View view, int position, long id) {
+		public void onItemSelected(final AdapterView<?> parent, final View view, final int position, final long id) {
+			Object receiver = mReceiverRef.get();
+			if (receiver == null)
+				return;
+			if (mBinding.mThread == ThreadMode.MAIN) {
+				invoke(parent, view, position, id);
+				return;
+			}
+			EventExecutor.execute(receiver, mBinding.mThread, new Runnable() {
+				@Override
+				public void run() {
+					invoke(parent, view, position, id);
+				}
+			});
+		}
+
+		private void invoke(AdapterView<?> parent, View view, int position, long id) {
+			Object receiver = mReceiverRef.get();
+			if (receiver == null)
+				return;
+			BoosterTracer tracer = dispatch(receiver);
 			try {
-				Object receiver = mReceiverRef.get();
-				if (receiver == null)
-					return;
-				Method method = mMethod;
-				boolean isAccessible = method.isAccessible();
-				method.setAccessible(true);
-				mMethod.invoke(receiver, parent, view, position, id);
-				method.setAccessible(isAccessible);
+				((Invoker.OfItem)mBinding.mInvoker).invoke(receiver, parent, view, position, id);
 			} catch (Exception e) {
-				throw new RuntimeException("Faild to invoke" + mMethod.getName(), e);
+				throw new RuntimeException("Faild to invoke" + mBinding.mName, e);
+			} finally {
+				BoosterTracer.end(tracer);
 			}
 		}
 
@@ -404,90 +697,317 @@ public class Booster {
 
 	}
 
-	private static class ViewOnTouchListener implements View.OnTouchListener {
+	private static class ViewOnTouchListener extends BoundListener implements View.OnTouchListener {
 
-		public final WeakReference<Object> mReceiverRef;
+		/** Moves since the last frame, as the samples of one event. */
+		private MotionEvent mPendingMove;
 
-		public final Method mMethod;
+		private MotionEvent.PointerCoords[] mCoords;
 
-		public ViewOnTouchListener(Object receiver, Method method) {
-			mReceiverRef = new WeakReference<Object>(receiver);
-			mMethod = method;
+		private FrameScheduler mFrameScheduler;
+
+		/** The result of the last delivered event, returned for held moves. */
+		private boolean mResult;
+
+		public ViewOnTouchListener(View view, Object receiver, BindingPlan.ListenerBinding binding) {
+			super(view, receiver, binding);
+		}
+
+		@Override
+		void register() {
+			mView.setOnTouchListener(this);
+			claim();
+		}
+
+		@Override
+		void unregister() {
+			cancel();
+			if (release())
+				mView.setOnTouchListener(null);
+			if (mFrameScheduler != null)
+				mFrameScheduler.cancel();
+			if (mPendingMove != null) {
+				mPendingMove.recycle();
+				mPendingMove = null;
+			}
 		}
 
 		@Override
 		public boolean onTouch(View v, MotionEvent event) {
+			if ((mBinding.mFlags & BindingPlan.FLAG_COALESCE) == 0)
+				return deliver(v, event);
+			if ((event.getAction() & MotionEvent.ACTION_MASK) == MotionEvent.ACTION_MOVE) {
+				hold(event);
+				return mResult;
+			}
+			// Moves are delivered before the event which follows them.
+			flush();
+			return mResult = deliver(v, event);
+		}
+
+		@Override
+		public void run() {
+			flush();
+		}
+
+		private void hold(MotionEvent event) {
+			MotionEvent pending = mPendingMove;
+			if (pending != null && pointerCountOf(pending) == pointerCountOf(event)) {
+				if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.GINGERBREAD)
+					mCoords = addSamples(pending, event, mCoords);
+				else
+					addSamples(pending, event);
+				return;
+			}
+			flush();
+			mPendingMove = MotionEvent.obtain(event);
+			if (mFrameScheduler == null)
+				mFrameScheduler = new FrameScheduler(this);
+			mFrameScheduler.schedule();
+		}
+
+		private void flush() {
+			MotionEvent move = mPendingMove;
+			if (move == null)
+				return;
+			mPendingMove = null;
+			mFrameScheduler.cancel();
 			try {
-				Object receiver = mReceiverRef.get();
-				if (receiver == null)
-					return false;
-				Method method = mMethod;
-				boolean isAccessible = method.isAccessible();
-				method.setAccessible(true);
-				boolean result = (Boolean)mMethod.invoke(receiver, v, event);
-				method.setAccessible(isAccessible);
-				return result;
+				mResult = deliver(mView, move);
+			} finally {
+				move.recycle();
+			}
+		}
+
+		/**
+		 * Returns the number of pointers of 'event', which is always 1 before
+		 * Android 2.0.
+		 */
+		private static int pointerCountOf(MotionEvent event) {
+			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.ECLAIR)
+				return getPointerCount(event);
+			return 1;
+		}
+
+		@TargetApi(Build.VERSION_CODES.ECLAIR)
+		private static int getPointerCount(MotionEvent event) {
+			return event.getPointerCount();
+		}
+
+		/**
+		 * Appends the samples of 'event' to 'pending'. Returns 'coords', or a
+		 * larger array if it was too small for the pointers of 'event'.
+		 */
+		@TargetApi(Build.VERSION_CODES.GINGERBREAD)
+		private static MotionEvent.PointerCoords[] addSamples(MotionEvent pending, MotionEvent event, MotionEvent.PointerCoords[] coords) {
+			int pointers = event.getPointerCount();
+			if (coords == null || coords.length < pointers) {
+				MotionEvent.PointerCoords[] larger = new MotionEvent.PointerCoords[pointers];
+				for (int i = 0; i < pointers; ++i)
+					larger[i] = coords != null && i < coords.length ? coords[i] : new MotionEvent.PointerCoords();
+				coords = larger;
+			}
+			int metaState = event.getMetaState();
+			for (int h = 0, c = event.getHistorySize(); h < c; ++h) {
+				for (int i = 0; i < pointers; ++i)
+					event.getHistoricalPointerCoords(i, h, coords[i]);
+				pending.addBatch(event.getHistoricalEventTime(h), coords, metaState);
+			}
+			for (int i = 0; i < pointers; ++i)
+				event.getPointerCoords(i, coords[i]);
+			pending.addBatch(event.getEventTime(), coords, metaState);
+			return coords;
+		}
+
+		/**
+		 * Appends the samples of the first pointer of 'event' to 'pending', on
+		 * versions without PointerCoords.
+		 */
+		private static void addSamples(MotionEvent pending, MotionEvent event) {
+			int metaState = event.getMetaState();
+			for (int h = 0, c = event.getHistorySize(); h < c; ++h) {
+				pending.addBatch(event.getHistoricalEventTime(h), event.getHistoricalX(h), event.getHistoricalY(h),
+						event.getHistoricalPressure(h), event.getHistoricalSize(h), metaState);
+			}
+			pending.addBatch(event.getEventTime(), event.getX(), event.getY(), event.getPressure(), event.getSize(), metaState);
+		}
+
+		private boolean deliver(View v, MotionEvent event) {
+			Object receiver = mReceiverRef.get();
+			if (receiver == null)
+				return false;
+			BoosterTracer tracer = dispatch(receiver);
+			try {
+				return ((Invoker.OfTouch)mBinding.mInvoker).invoke(receiver, v, event);
 			} catch (Exception e) {
-				throw new RuntimeException("Faild to invoke" + mMethod.getName(), e);
+				throw new RuntimeException("Faild to invoke" + mBinding.mName, e);
+			} finally {
+				BoosterTracer.end(tracer);
 			}
 		}
 
 	}
 
-	private static class ViewOnFocusChangedListener implements View.OnFocusChangeListener {
+	private static class ViewOnFocusChangedListener extends BoundListener implements View.OnFocusChangeListener {
 
-		public final WeakReference<Object> mReceiverRef;
+		public ViewOnFocusChangedListener(View view, Object receiver, BindingPlan.ListenerBinding binding) {
+			super(view, receiver, binding);
+		}
 
-		public final Method mMethod;
+		@Override
+		void register() {
+			mView.setOnFocusChangeListener(this);
+		}
 
-		public ViewOnFocusChangedListener(Object receiver, Method method) {
-			mReceiverRef = new WeakReference<Object>(receiver);
-			mMethod = method;
+		@Override
+		void unregister() {
+			cancel();
+			if (mView.getOnFocusChangeListener() == this)
+				mView.setOnFocusChangeListener(null);
 		}
 
 		@Override
-		public void onFocusChange(View v, boolean hasFocus) {
+		public void onFocusChange(final View v, final boolean hasFocus) {
+			Object receiver = mReceiverRef.get();
+			if (receiver == null)
+				return;
+			if (mBinding.mThread == ThreadMode.MAIN) {
+				invoke(v, hasFocus);
+				return;
+			}
+			EventExecutor.execute(receiver, mBinding.mThread, new Runnable() {
+				@Override
+				public void run() {
+					invoke(v, hasFocus);
+				}
+			});
+		}
+
+		private void invoke(View v, boolean hasFocus) {
+			Object receiver = mReceiverRef.get();
+			if (receiver == null)
+				return;
+			BoosterTracer tracer = dispatch(receiver);
 			try {
-				Object receiver = mReceiverRef.get();
-				if (receiver == null)
-					return;
-				Method method = mMethod;
-				boolean isAccessible = method.isAccessible();
-				method.setAccessible(true);
-				method.invoke(receiver, v, hasFocus);
-				method.setAccessible(isAccessible);
+				((Invoker.OfFocus)mBinding.mInvoker).invoke(receiver, v, hasFocus);
 			} catch (Exception e) {
-				throw new RuntimeException("Faild to invoke" + mMethod.getName(), e);
+				throw new RuntimeException("Faild to invoke" + mBinding.mName, e);
+			} finally {
+				BoosterTracer.end(tracer);
 			}
 		}
 
 	}
 
-	private static class TextViewOnEditorActionListener implements TextView.OnEditorActionListener {
+	private static class TextViewOnEditorActionListener extends BoundListener implements TextView.OnEditorActionListener {
 
-		public final WeakReference<Object> mReceiverRef;
+		public TextViewOnEditorActionListener(View view, Object receiver, BindingPlan.ListenerBinding binding) {
+			super(view, receiver, binding);
+		}
 
-		public final Method mMethod;
+		@Override
+		void register() {
+			((TextView)mView).setOnEditorActionListener(this);
+			claim();
+		}
 
-		public TextViewOnEditorActionListener(Object receiver, Method method) {
-			mReceiverRef = new WeakReference<Object>(receiver);
-			mMethod = method;
+		@Override
+		void unregister() {
+			cancel();
+			if (release())
+				((TextView)mView).setOnEditorActionListener(null);
 		}
 
 		@Override
 		public boolean onEditorAction(TextView v, int actionId, KeyEvent event) {
+			Object receiver = mReceiverRef.get();
+			if (receiver == null)
+				return false;
+			BoosterTracer tracer = dispatch(receiver);
 			try {
-				Object receiver = mReceiverRef.get();
-				if (receiver == null)
-					return false;
-				Method method = mMethod;
-				boolean isAccessible = method.isAccessible();
-				method.setAccessible(true);
-				boolean result = (Boolean)mMethod.invoke(receiver, v, actionId, event);
-				method.setAccessible(isAccessible);
-				return result;
+				return ((Invoker.OfEditorAction)mBinding.mInvoker).invoke(receiver, v, actionId, event);
+			} catch (Exception e) {
+				throw new RuntimeException("Faild to invoke" + mBinding.mName, e);
+			} finally {
+				BoosterTracer.end(tracer);
+			}
+		}
+
+	}
+
+	private static class TextViewTextWatcher extends BoundListener implements TextWatcher {
+
+		/**
+		 * The Editable of the TextView changed since the last delivery. It is
+		 * delivered as is, so it holds the latest text when delivered.
+		 */
+		private CharSequence mPendingText;
+
+		private FrameScheduler mFrameScheduler;
+
+		public TextViewTextWatcher(View view, Object receiver, BindingPlan.ListenerBinding binding) {
+			super(view, receiver, binding);
+		}
+
+		@Override
+		void register() {
+			((TextView)mView).addTextChangedListener(this);
+		}
+
+		@Override
+		void unregister() {
+			cancel();
+			if (mFrameScheduler != null)
+				mFrameScheduler.cancel();
+			mPendingText = null;
+			((TextView)mView).removeTextChangedListener(this);
+		}
+
+		@Override
+		public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+		}
+
+		@Override
+		public void onTextChanged(CharSequence s, int start, int before, int count) {
+		}
+
+		@Override
+		public void afterTextChanged(Editable s) {
+			if (mBinding.mDebounceMs != 0) {
+				mPendingText = s;
+				debounce();
+				return;
+			}
+			if ((mBinding.mFlags & BindingPlan.FLAG_CONFLATE) != 0) {
+				mPendingText = s;
+				if (mFrameScheduler == null)
+					mFrameScheduler = new FrameScheduler(this);
+				mFrameScheduler.schedule();
+				return;
+			}
+			deliver(s);
+		}
+
+		@Override
+		public void run() {
+			CharSequence text = mPendingText;
+			if (text == null)
+				return;
+			mPendingText = null;
+			deliver(text);
+		}
+
+		private void deliver(CharSequence text) {
+			Object receiver = mReceiverRef.get();
+			if (receiver == null)
+				return;
+			BoosterTracer tracer = dispatch(receiver);
+			try {
+				((Invoker.OfText)mBinding.mInvoker).invoke(receiver, (TextView)mView, text);
 			} catch (Exception e) {
-				throw new RuntimeException("Faild to invoke" + mMethod.getName(), e);
+				throw new RuntimeException("Faild to invoke" + mBinding.mName, e);
+			} finally {
+				BoosterTracer.end(tracer);
 			}
 		}
 
@@ -502,180 +1022,107 @@ public class Booster {
 	 * @param targetClass Class of the target.
 	 * @param source An object which contains corresponding {@link View}s.
 	 * 
+	 * @see {@link #bindListeners(Object target, Class targetClass, Object source)}
+	 * 
 	 */
 	public static final void registerListeners(Object target, Class<?> targetClass, Object source) {
+		bindListeners(target, targetClass, source);
+	}
+
+	/**
+	 * Does the work of {@link #registerListeners(Object, Class, Object)}, and
+	 * returns an {@link Unbinder} which removes the listeners again.
+	 * 
+	 * @param target An object which contains annotated methods.
+	 * @param targetClass Class of the target.
+	 * @param source An object which contains corresponding {@link View}s.
+	 * @return An {@link Unbinder} which removes the listeners again.
+	 * 
+	 */
+	public static final Unbinder bindListeners(Object target, Class<?> targetClass, Object source) {
 		try {
-			// Prepare findViewById method for register listeners
-			Method findViewById = source.getClass().getMethod("findViewById", int.class);
-			Method[] methods = targetClass.getDeclaredMethods();
-			for (int i = 0, c = methods.length; i < c; ++i) {
-				Method method = methods[i];
-				// Register View.OnClickListener
-				if (method.isAnnotationPresent(OnClick.class)) {
-					int[] ids = method.getAnnotation(OnClick.class).value();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						View view = (View)findViewById.invoke(source, ids[j]);
-						ViewOnClickListener listener = new ViewOnClickListener(target, method);
-						view.setOnClickListener(listener);
-					}
-				}
-				if (method.isAnnotationPresent(OnClickEx.class)) {
-					OnClickEx annotation = method.getAnnotation(OnClickEx.class);
-					Class<?> cls = annotation.cls();
-					String[] ids = annotation.id();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						int id = cls.getField(ids[j]).getInt(null);
-						View view = (View)findViewById.invoke(source, id);
-						ViewOnClickListener listener = new ViewOnClickListener(target, method);
-						view.setOnClickListener(listener);
-					}
-				}
-				// Register View.OnLongClickListener
-				if (method.isAnnotationPresent(OnLongClick.class)) {
-					int[] ids = method.getAnnotation(OnLongClick.class).value();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						View view = (View)findViewById.invoke(source, ids[j]);
-						ViewOnLongClickListener listener = new ViewOnLongClickListener(target, method);
-						view.setOnLongClickListener(listener);
-					}
-				}
-				if (method.isAnnotationPresent(OnLongClickEx.class)) {
-					OnLongClickEx annotation = method.getAnnotation(OnLongClickEx.class);
-					Class<?> cls = annotation.cls();
-					String[] ids = annotation.id();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						int id = cls.getField(ids[j]).getInt(null);
-						View view = (View)findViewById.invoke(source, id);
-						ViewOnLongClickListener listener = new ViewOnLongClickListener(target, method);
-						view.setOnLongClickListener(listener);
-					}
-				}
-				// Register AdapterView.OnItemClickListener
-				if (method.isAnnotationPresent(OnItemClick.class)) {
-					int[] ids = method.getAnnotation(OnItemClick.class).value();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						AdapterView<?> view = (AdapterView<?>)findViewById.invoke(source, ids[j]);
-						AdapterViewOnItemClickListener listener = new AdapterViewOnItemClickListener(target, method);
-						view.setOnItemClickListener(listener);
-					}
-				}
-				if (method.isAnnotationPresent(OnItemClickEx.class)) {
-					OnItemClickEx annotation = method.getAnnotation(OnItemClickEx.class);
-					Class<?> cls = annotation.cls();
-					String[] ids = annotation.id();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						int id = cls.getField(ids[j]).getInt(null);
-						AdapterView<?> view = (AdapterView<?>)findViewById.invoke(source, id);
-						AdapterViewOnItemClickListener listener = new AdapterViewOnItemClickListener(target, method);
-						view.setOnItemClickListener(listener);
-					}
-				}
-				// Register AdapterView.OnItemLongClickListener
-				if (method.isAnnotationPresent(OnItemLongClick.class)) {
-					int[] ids = method.getAnnotation(OnItemLongClick.class).value();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						AdapterView<?> view = (AdapterView<?>)findViewById.invoke(source, ids[j]);
-						AdapterViewOnItemLongClickListener listener = new AdapterViewOnItemLongClickListener(target, method);
-						view.setOnItemLongClickListener(listener);
-					}
-				}
-				if (method.isAnnotationPresent(OnItemLongClickEx.class)) {
-					OnItemLongClickEx annotation = method.getAnnotation(OnItemLongClickEx.class);
-					Class<?> cls = annotation.cls();
-					String[] ids = annotation.id();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						int id = cls.getField(ids[j]).getInt(null);
-						AdapterView<?> view = (AdapterView<?>)findViewById.invoke(source, id);
-						AdapterViewOnItemLongClickListener listener = new AdapterViewOnItemLongClickListener(target, method);
-						view.setOnItemLongClickListener(listener);
-					}
-				}
-				// Register AdapterView.OnItemSelectedListener
-				if (method.isAnnotationPresent(OnItemSelected.class)) {
-					int[] ids = method.getAnnotation(OnItemSelected.class).value();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						AdapterView<?> view = (AdapterView<?>)findViewById.invoke(source, ids[j]);
-						AdapterViewOnItemSelectedListener listener = new AdapterViewOnItemSelectedListener(target, method);
-						view.setOnItemSelectedListener(listener);
-					}
-				}
-				if (method.isAnnotationPresent(OnItemSelectedEx.class)) {
-					OnItemSelectedEx annotation = method.getAnnotation(OnItemSelectedEx.class);
-					Class<?> cls = annotation.cls();
-					String[] ids = annotation.id();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						int id = cls.getField(ids[j]).getInt(null);
-						AdapterView<?> view = (AdapterView<?>)findViewById.invoke(source, id);
-						AdapterViewOnItemSelectedListener listener = new AdapterViewOnItemSelectedListener(target, method);
-						view.setOnItemSelectedListener(listener);
-					}
-				}
-				// Register View.OnTouchListener
-				if (method.isAnnotationPresent(OnTouch.class)) {
-					int[] ids = method.getAnnotation(OnTouch.class).value();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						View view = (View)findViewById.invoke(source, ids[j]);
-						ViewOnTouchListener listener = new ViewOnTouchListener(target, method);
-						view.setOnTouchListener(listener);
-					}
-				}
-				if (method.isAnnotationPresent(OnTouchEx.class)) {
-					OnTouchEx annotation = method.getAnnotation(OnTouchEx.class);
-					Class<?> cls = annotation.cls();
-					String[] ids = annotation.id();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						int id = cls.getField(ids[j]).getInt(null);
-						View view = (View)findViewById.invoke(source, id);
-						ViewOnTouchListener listener = new ViewOnTouchListener(target, method);
-						view.setOnTouchListener(listener);
-					}
-				}
-				// Register View.OnFocusChangedListener
-				if (method.isAnnotationPresent(OnFocusChanged.class)) {
-					int[] ids = method.getAnnotation(OnFocusChanged.class).value();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						View view = (View)findViewById.invoke(source, ids[j]);
-						ViewOnFocusChangedListener listener = new ViewOnFocusChangedListener(target, method);
-						view.setOnFocusChangeListener(listener);
-					}
-				}
-				if (method.isAnnotationPresent(OnFocusChangedEx.class)) {
-					OnFocusChangedEx annotation = method.getAnnotation(OnFocusChangedEx.class);
-					Class<?> cls = annotation.cls();
-					String[] ids = annotation.id();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						int id = cls.getField(ids[j]).getInt(null);
-						View view = (View)findViewById.invoke(source, id);
-						ViewOnFocusChangedListener listener = new ViewOnFocusChangedListener(target, method);
-						view.setOnFocusChangeListener(listener);
-					}
-				}
-				// Register TextView.OnEditorActionListener
-				if (method.isAnnotationPresent(OnEditorAction.class)) {
-					int[] ids = method.getAnnotation(OnEditorAction.class).value();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						TextView view = (TextView)findViewById.invoke(source, ids[j]);
-						TextViewOnEditorActionListener listener = new TextViewOnEditorActionListener(target, method);
-						view.setOnEditorActionListener(listener);
-					}
-				}
-				if (method.isAnnotationPresent(OnEditorActionEx.class)) {
-					OnEditorActionEx annotation = method.getAnnotation(OnEditorActionEx.class);
-					Class<?> cls = annotation.cls();
-					String[] ids = annotation.id();
-					for (int j = 0, d = ids.length; j < d; ++j) {
-						int id = cls.getField(ids[j]).getInt(null);
-						TextView view = (TextView)findViewById.invoke(source, id);
-						TextViewOnEditorActionListener listener = new TextViewOnEditorActionListener(target, method);
-						view.setOnEditorActionListener(listener);
-					}
-				}
-			}
+			BindingPlan plan = BindingPlan.of(targetClass);
+			if (plan.mListeners.length == 0)
+				return Unbinder.EMPTY;
+			BoundListener[] registered = registerListeners(plan, target, new ViewLookup(source, plan.mViewIds));
+			return new Unbinder(plan, target, false, registered);
 		} catch (Exception e) {
 			throw new RuntimeException("Failed to register listeners", e);
 		}
 	}
 
+	/**
+	 * Returns the registered listeners, for {@link Unbinder}.
+	 */
+	private static BoundListener[] registerListeners(BindingPlan plan, Object target, ViewLookup lookup) throws Exception {
+		BoosterTracer tracer = BoosterTracer.begin(plan, BoosterMetrics.PHASE_LISTENERS);
+		long start = BoosterMetrics.begin();
+		try {
+			BindingPlan.ListenerBinding[] listeners = plan.mListeners;
+			int count = 0;
+			for (int i = 0, c = listeners.length; i < c; ++i)
+				count += listeners[i].mIds.length;
+			BoundListener[] registered = new BoundListener[count];
+			int index = 0;
+			for (int i = 0, c = listeners.length; i < c; ++i) {
+				BindingPlan.ListenerBinding binding = listeners[i];
+				int[] ids = binding.mIds;
+				for (int j = 0, d = ids.length; j < d; ++j)
+					registered[index++] = registerListener(lookup.find(ids[j]), target, binding);
+			}
+			return registered;
+		} finally {
+			BoosterMetrics.end(plan, BoosterMetrics.PHASE_LISTENERS, start);
+			BoosterTracer.end(tracer);
+		}
+	}
+
+	private static BoundListener registerListener(View view, Object target, BindingPlan.ListenerBinding binding) {
+		BoundListener listener;
+		switch (binding.mKind) {
+		// Register View.OnClickListener
+		case BindingPlan.ON_CLICK:
+			listener = new ViewOnClickListener(view, target, binding);
+			break;
+		// Register View.OnLongClickListener
+		case BindingPlan.ON_LONG_CLICK:
+			listener = new ViewOnLongClickListener(view, target, binding);
+			break;
+		// Register AdapterView.OnItemClickListener
+		case BindingPlan.ON_ITEM_CLICK:
+			listener = new AdapterViewOnItemClickListener(view, target, binding);
+			break;
+		// Register AdapterView.OnItemLongClickListener
+		case BindingPlan.ON_ITEM_LONG_CLICK:
+			listener = new AdapterViewOnItemLongClickListener(view, target, binding);
+			break;
+		// Register AdapterView.OnItemSelectedListener
+		case BindingPlan.ON_ITEM_SELECTED:
+			listener = new AdapterViewOnItemSelectedListener(view, target, binding);
+			break;
+		// Register View.OnTouchListener
+		case BindingPlan.ON_TOUCH:
+			listener = new ViewOnTouchListener(view, target, binding);
+			break;
+		// Register View.OnFocusChangedListener
+		case BindingPlan.ON_FOCUS_CHANGED:
+			listener = new ViewOnFocusChangedListener(view, target, binding);
+			break;
+		// Register TextView.OnEditorActionListener
+		case BindingPlan.ON_EDITOR_ACTION:
+			listener = new TextViewOnEditorActionListener(view, target, binding);
+			break;
+		// Register TextWatcher
+		case BindingPlan.ON_TEXT_CHANGED:
+			listener = new TextViewTextWatcher(view, target, binding);
+			break;
+		default:
+			throw new RuntimeException("Unexpected listener kind: " + binding.mKind);
+		}
+		listener.register();
+		return listener;
+	}
+
 	/**
 	 * Is equivalent to calling {@link #registerListeners(object, object)}
 	 * 
@@ -689,6 +1136,20 @@ public class Booster {
 		registerListeners(object, objectClass, object);
 	}
 
+	/**
+	 * Is equivalent to calling {@link #bindListeners(object, objectClass, object)}
+	 * 
+	 * @param object The object which wants to register listeners to.
+	 * @param objectClass Class of the object.
+	 * @return An {@link Unbinder} which removes the listeners again.
+	 * 
+	 * @see {@link #bindListeners(Object target, Class targetClass, Object source)}
+	 * 
+	 */
+	public static final Unbinder bindListeners(Object object, Class<?> objectClass) {
+		return bindListeners(object, objectClass, object);
+	}
+
 	/**
 	 * This method will initial all fields with {@link SystemService} annotation in
 	 * 'object' with corresponding system service object. To make this method working
@@ -703,132 +1164,31 @@ public class Booster {
 	 * @see {@link SystemService}
 	 * 
 	 */
-	@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR1)
-	@SuppressWarnings("deprecation")
 	public static final void bindSystemServices(Object target, Class<?> targetClass, Object source) {
 		try {
-			// Prepare Context object for binding @SystemService fields.
-			Context context = null;
-			try {
-				Method getContext = source.getClass().getMethod("getContext");
-				Object result = getContext.invoke(source);
-				if (result == null || !(result instanceof Context))
-					throw new NullPointerException();
-				context = (Context)result;
-			} catch (Exception e) {
-				if (source instanceof Context)
-					context = (Context)source;
-			}
-			if (context == null)
-				throw new RuntimeException("Context not found.");
-
-			// Get all fields form target.
-			Field[] fields = targetClass.getDeclaredFields();
-			for (int i = 0, c = fields.length; i < c; ++i) {
-				Field field = fields[i];
-				if (!field.isAnnotationPresent(SystemService.class))
-					continue;
-				boolean isAccessible = field.isAccessible();
-				field.setAccessible(true);
-				Class<?> clazz = field.getType();
-				if (android.text.ClipboardManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.CLIPBOARD_SERVICE));
-				} else if (WindowManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.WINDOW_SERVICE));
-				} else if (LayoutInflater.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.LAYOUT_INFLATER_SERVICE));
-				} else if (ActivityManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.ACTIVITY_SERVICE));
-				} else if (PowerManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.POWER_SERVICE));
-				} else if (AlarmManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.ALARM_SERVICE));
-				} else if (NotificationManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.NOTIFICATION_SERVICE));
-				} else if (KeyguardManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.KEYGUARD_SERVICE));
-				} else if (LocationManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.LOCATION_SERVICE));
-				} else if (SearchManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.SEARCH_SERVICE));
-				} else if (SensorManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.SENSOR_SERVICE));
-				} else if (Vibrator.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.VIBRATOR_SERVICE));
-				} else if (ConnectivityManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.CONNECTIVITY_SERVICE));
-				} else if (WifiManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.WIFI_SERVICE));
-				} else if (AudioManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.AUDIO_SERVICE));
-				} else if (TelephonyManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.TELEPHONY_SERVICE));
-				} else if (InputMethodManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.INPUT_METHOD_SERVICE));
-				} else if (AccessibilityManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.ACCESSIBILITY_SERVICE));
-				} else if (Build.VERSION.SDK_INT < Build.VERSION_CODES.ECLAIR) {
-					throw new RuntimeException("Corresponding system service not found.");
-				} else if (AccountManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.ACCOUNT_SERVICE));
-				} else if (Build.VERSION.SDK_INT < Build.VERSION_CODES.ECLAIR_MR1) {
-					throw new RuntimeException("Corresponding system service not found.");
-				} else if (WallpaperService.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.WALLPAPER_SERVICE));
-				} else if (Build.VERSION.SDK_INT < Build.VERSION_CODES.FROYO) {
-					throw new RuntimeException("Corresponding system service not found.");
-				} else if (UiModeManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.UI_MODE_SERVICE));
-				} else if (DropBoxManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.DROPBOX_SERVICE));
-				} else if (DevicePolicyManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.DEVICE_POLICY_SERVICE));
-				} else if (Build.VERSION.SDK_INT < Build.VERSION_CODES.GINGERBREAD) {
-					throw new RuntimeException("Corresponding system service not found.");
-				} else if (StorageManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.STORAGE_SERVICE));
-				} else if (DownloadManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.DOWNLOAD_SERVICE));
-				} else if (NfcManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.NFC_SERVICE));
-				} else if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
-					throw new RuntimeException("Corresponding system service not found.");
-				} else if (ClipboardManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.CLIPBOARD_SERVICE));
-				} else if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB_MR1) {
-					throw new RuntimeException("Corresponding system service not found.");
-				} else if (UsbManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.USB_SERVICE));
-				} else if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB_MR2) {
-					throw new RuntimeException("Corresponding system service not found.");
-				} else if (WifiP2pManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.WIFI_P2P_SERVICE));
-				} else if (TextServicesManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.TEXT_SERVICES_MANAGER_SERVICE));
-				} else if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN) {
-					throw new RuntimeException("Corresponding system service not found.");
-				} else if (NsdManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.NSD_SERVICE));
-				} else if (MediaRouter.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.MEDIA_ROUTER_SERVICE));
-				} else if (InputManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.INPUT_SERVICE));
-				} else if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR1) {
-					throw new RuntimeException("Corresponding system service not found.");
-				} else if (DisplayManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.DISPLAY_SERVICE));
-				} else if (UserManager.class.equals(clazz)) {
-					field.set(target, context.getSystemService(Context.USER_SERVICE));
-				} else {
-					throw new RuntimeException("Corresponding system service not found.");
-				}
-				field.setAccessible(isAccessible);
-			}
+			BindingPlan plan = BindingPlan.of(targetClass);
+			if (plan.mServices.length != 0)
+				bindSystemServices(plan, target, contextOf(source));
 		} catch (Exception e) {
 			throw new RuntimeException("Failed to bind system services", e);
 		}
 	}
 
+	private static void bindSystemServices(BindingPlan plan, Object target, Context context) throws Exception {
+		BoosterTracer tracer = BoosterTracer.begin(plan, BoosterMetrics.PHASE_SERVICES);
+		long start = BoosterMetrics.begin();
+		try {
+			BindingPlan.ServiceBinding[] services = plan.mServices;
+			for (int i = 0, c = services.length; i < c; ++i) {
+				BindingPlan.ServiceBinding binding = services[i];
+				binding.mField.set(target, SystemServices.get(context, binding.mType));
+			}
+		} finally {
+			BoosterMetrics.end(plan, BoosterMetrics.PHASE_SERVICES, start);
+			BoosterTracer.end(tracer);
+		}
+	}
+
 	/**
 	 * Is equivalent to calling {@link #bindSystemServices(object, object)}
 	 * 
@@ -843,102 +1203,278 @@ public class Booster {
 		bindSystemServices(object, objectClass, object);
 	}
 
+	/**
+	 * This method initializes all fields with {@link IntentExtra} annotation in
+	 * 'target' with corresponding extras of an {@link Intent}. To make this method
+	 * working correctly, the 'source' object must be an Intent or provides a
+	 * {@code Intent getIntent()} method.
+	 * 
+	 * @param target An object who's fields will be initialized.
+	 * @param targetClass Class of the target.
+	 * @param source An {@link Intent} object or an object which provides a
+	 *        {@code Intent getIntent()} method.
+	 * 
+	 * @see {@link IntentExtra}
+	 * 
+	 */
 	public static final void obtainIntentExtras(Object target, Class<?> targetClass, Object source) {
 		try {
-			// Prepare Intent object for injecting @IntentExtra fields.
-			Intent intent = null;
-			try {
-				Method getContext = source.getClass().getMethod("getIntent");
-				Object result = getContext.invoke(source);
-				if (result == null || !(result instanceof Intent))
-					throw new NullPointerException();
-				intent = (Intent)result;
-			} catch (Exception e) {
-				if (source instanceof Intent)
-					intent = (Intent)source;
-			}
-			if (intent == null)
-				throw new RuntimeException("Intent not found.");
-	
-			// Get all fields form target object.
-			Field[] fields = targetClass.getDeclaredFields();
-			for (int i = 0, c = fields.length; i < c; ++i) {
-				Field field = fields[i];
-				// Process @IntentExtra annotation.
-				if (!field.isAnnotationPresent(IntentExtra.class))
-					continue;
-				String name = field.getAnnotation(IntentExtra.class).value();
-				if (name.length() == 0)
-					name = field.getName();
-				boolean isAccessible = field.isAccessible();
-				field.setAccessible(true);
-				Class<?> clazz = field.getType();
-				if (clazz.equals(boolean.class)) {
-					boolean value = field.getBoolean(target);
-					field.setBoolean(target, intent.getBooleanExtra(name, value));
-				} else if (clazz.equals(boolean[].class)) {
-					boolean[] value = intent.getBooleanArrayExtra(name);
-					if (value != null) field.set(target, value);
-				} else if (clazz.equals(byte.class)) {
-					byte value = field.getByte(target);
-					field.setByte(target, intent.getByteExtra(name, value));
-				} else if (clazz.equals(byte[].class)) {
-					byte[] value = intent.getByteArrayExtra(name);
-					if (value != null) field.set(target, value);
-				} else if (clazz.equals(char.class)) {
-					char value = field.getChar(target);
-					field.setChar(target, intent.getCharExtra(name, value));
-				} else if (clazz.equals(char[].class)) {
-					char[] value = intent.getCharArrayExtra(name);
-					if (value != null) field.set(target, value);
-				} else if (clazz.equals(short.class)) {
-					short value = field.getShort(target);
-					field.setShort(target, intent.getShortExtra(name, value));
-				} else if (clazz.equals(short[].class)) {
-					short[] value = intent.getShortArrayExtra(name);
-					if (value != null) field.set(target, value);
-				} else if (clazz.equals(int.class)) {
-					int value = field.getInt(target);
-					field.setInt(target, intent.getIntExtra(name, value));
-				} else if (clazz.equals(int[].class)) {
-					int[] value = intent.getIntArrayExtra(name);
-					if (value != null) field.set(target, value);
-				} else if (clazz.equals(long.class)) {
-					long value = field.getLong(target);
-					field.setLong(target, intent.getLongExtra(name, value));
-				} else if (clazz.equals(long[].class)) {
-					long[] value = intent.getLongArrayExtra(name);
-					if (value != null) field.set(target, value);
-				} else if (clazz.equals(float.class)) {
-					float value = field.getFloat(target);
-					field.setFloat(target, intent.getFloatExtra(name, value));
-				} else if (clazz.equals(float[].class)) {
-					float[] value = intent.getFloatArrayExtra(name);
-					if (value != null) field.set(target, value);
-				} else if (clazz.equals(double.class)) {
-					double value = field.getDouble(target);
-					field.setDouble(target, intent.getDoubleExtra(name, value));
-				} else if (clazz.equals(double[].class)) {
-					double[] value = intent.getDoubleArrayExtra(name);
-					if (value != null) field.set(target, value);
-				} else if (clazz.equals(String.class)) {
-					String value = intent.getStringExtra(name);
-					if (value != null) field.set(target, value);
-				} else if (clazz.equals(String[].class)) {
-					String[] value = intent.getStringArrayExtra(name);
-					if (value != null) field.set(target, value);
-				} else {
-					throw new RuntimeException("Unexpected type: " + clazz.getName());
-				}
-				field.setAccessible(isAccessible);
-			}
+			BindingPlan plan = BindingPlan.of(targetClass);
+			if (plan.mExtras.length != 0)
+				obtainIntentExtras(plan, target, intentOf(source));
 		} catch (Exception e) {
 			throw new RuntimeException("Failed to inject intent extras", e);
 		}
 	}
 
+	private static void obtainIntentExtras(BindingPlan plan, Object target, Intent intent) throws Exception {
+		BoosterTracer tracer = BoosterTracer.begin(plan, BoosterMetrics.PHASE_EXTRAS);
+		long start = BoosterMetrics.begin();
+		try {
+			BindingPlan.ExtraBinding[] extras = plan.mExtras;
+			for (int i = 0, c = extras.length; i < c; ++i)
+				extras[i].read(target, intent);
+		} finally {
+			BoosterMetrics.end(plan, BoosterMetrics.PHASE_EXTRAS, start);
+			BoosterTracer.end(tracer);
+		}
+	}
+
+	/**
+	 * Returns the {@link Intent} of 'source', as resolved by {@link SourceResolver}
+	 * for its class.
+	 */
+	private static Intent intentOf(Object source) throws Exception {
+		SourceResolver.IntentProvider provider = SourceResolver.of(source.getClass()).mIntentProvider;
+		Intent intent = provider != null ? provider.intentOf(source) : null;
+		if (intent == null)
+			throw new RuntimeException("Intent not found.");
+		return intent;
+	}
+
+	/**
+	 * Is equivalent to calling {@link #obtainIntentExtras(object, objectClass, object)}
+	 * 
+	 * @param object The object which wants to obtain intent extras.
+	 * @param objectClass Class of the object.
+	 * 
+	 * @see {@link #obtainIntentExtras(Object target, Class targetClass, Object source)}
+	 * @see {@link IntentExtra}
+	 * 
+	 */
 	public static final void obtainIntentExtras(Object object, Class<?> objectClass) {
 		obtainIntentExtras(object, objectClass, object);
 	}
 
+	/**
+	 * This method puts all fields with {@link IntentExtra} annotation in 'source'
+	 * into 'intent' as the extras which {@link #obtainIntentExtras} reads back,
+	 * so an Intent for an Activity can be built from an instance of its class,
+	 * or of any class declaring the same extras. Each field is written with the
+	 * putExtra method matching its type; null fields are left out.
+	 * 
+	 * @param source An object who's fields will be written.
+	 * @param sourceClass Class of the source.
+	 * @param intent The {@link Intent} to put the extras into.
+	 * @return The intent.
+	 * 
+	 * @see {@link IntentExtra}
+	 * 
+	 */
+	public static final Intent writeIntentExtras(Object source, Class<?> sourceClass, Intent intent) {
+		try {
+			BindingPlan.ExtraBinding[] extras = BindingPlan.of(sourceClass).mExtras;
+			for (int i = 0, c = extras.length; i < c; ++i)
+				extras[i].write(source, intent);
+			return intent;
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to write intent extras", e);
+		}
+	}
+
+	/**
+	 * Is equivalent to calling {@link #writeIntentExtras(source, source.getClass(), intent)}
+	 * 
+	 * @param source An object who's fields will be written.
+	 * @param intent The {@link Intent} to put the extras into.
+	 * @return The intent.
+	 * 
+	 * @see {@link #writeIntentExtras(Object source, Class sourceClass, Intent intent)}
+	 * @see {@link IntentExtra}
+	 * 
+	 */
+	public static final Intent writeIntentExtras(Object source, Intent intent) {
+		return writeIntentExtras(source, source.getClass(), intent);
+	}
+
+	/**
+	 * This method does the work of {@link #injectViews}, {@link #inflateLayouts},
+	 * {@link #registerListeners}, {@link #bindSystemServices} and
+	 * {@link #obtainIntentExtras} in one pass. The annotated members of
+	 * 'targetClass' are looked up once, and the findViewById method, Context and
+	 * Intent of 'source' are resolved once, only if some member needs them.
+	 * 
+	 * @param target An object who's fields will be bound and who's methods will
+	 *        be registered as listeners.
+	 * @param targetClass Class of the target.
+	 * @param source An object which contains corresponding {@link View}s and
+	 *        provides the {@link Context} and {@link Intent}.
+	 * @return An {@link Unbinder} which removes the listeners and sets the View
+	 *         fields to null again.
+	 * 
+	 */
+	public static final Unbinder bind(Object target, Class<?> targetClass, Object source) {
+		return bind(BindingPlan.of(targetClass), target, source);
+	}
+
+	/**
+	 * Is equivalent to calling {@link #bind(Object, Class, Object)} for
+	 * 'targetClass' and each of its superclasses up to, but not including,
+	 * 'stopClass', superclasses first. The merged members of the hierarchy are
+	 * looked up once per 'targetClass'.
+	 * 
+	 * @param target An object who's fields will be bound and who's methods will
+	 *        be registered as listeners.
+	 * @param targetClass Class of the target.
+	 * @param stopClass The first superclass which is not bound, such as
+	 *        {@code Activity.class}.
+	 * @param source An object which contains corresponding {@link View}s and
+	 *        provides the {@link Context} and {@link Intent}.
+	 * @return An {@link Unbinder} which removes the listeners and sets the View
+	 *         fields to null again.
+	 * 
+	 */
+	public static final Unbinder bind(Object target, Class<?> targetClass, Class<?> stopClass, Object source) {
+		BindingPlan plan = BindingPlan.of(targetClass, stopClass);
+		if (plan == null)
+			return Unbinder.EMPTY;
+		return bind(plan, target, source);
+	}
+
+	private static Unbinder bind(BindingPlan plan, Object target, Object source) {
+		try {
+			// Resolve everything needed from source once for all phases.
+			ViewLookup lookup = null;
+			if (plan.mViews.length != 0 || plan.mListeners.length != 0)
+				lookup = new ViewLookup(source, plan.mViewIds);
+			Context context = null;
+			if (plan.mLayouts.length != 0 || plan.mServices.length != 0)
+				context = contextOf(source);
+			Intent intent = null;
+			if (plan.mExtras.length != 0)
+				intent = intentOf(source);
+
+			if (plan.mViews.length != 0)
+				injectViews(plan, target, lookup);
+			if (plan.mLayouts.length != 0)
+				inflateLayouts(plan, target, context);
+			BoundListener[] registered = null;
+			if (plan.mListeners.length != 0)
+				registered = registerListeners(plan, target, lookup);
+			if (plan.mServices.length != 0)
+				bindSystemServices(plan, target, context);
+			if (plan.mExtras.length != 0)
+				obtainIntentExtras(plan, target, intent);
+			return new Unbinder(plan, target, true, registered);
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to bind " + plan.mTargetClass.getName(), e);
+		}
+	}
+
+	/**
+	 * Is equivalent to calling {@link #bind(object, objectClass, object)}
+	 * 
+	 * @param object The object which wants to be bound.
+	 * @param objectClass Class of the object.
+	 * @return An {@link Unbinder} which removes the listeners and sets the View
+	 *         fields to null again.
+	 * 
+	 * @see {@link #bind(Object target, Class targetClass, Object source)}
+	 * 
+	 */
+	public static final Unbinder bind(Object object, Class<?> objectClass) {
+		return bind(object, objectClass, object);
+	}
+
+	/**
+	 * Makes Booster read {@link BindingPlan}s from an asset written at build time
+	 * by {@code com.iwares.lib.booster.processor.PlanAssetWriter}, which saves
+	 * the annotation scan on the first bind of each class in the asset. Classes
+	 * with a generated binder use the binder. Classes not in the asset, or whose
+	 * fields or methods have changed since it was written, are scanned as usual,
+	 * as are all classes if the asset can not be read. Changed annotation
+	 * values alone are not noticed, so write the asset on every build. Call
+	 * this in {@code Application.onCreate()}; the asset is opened on first use.
+	 * Store the asset uncompressed so that it can be memory-mapped.
+	 * 
+	 * @param context Any Context of the application.
+	 * @param assetName Name of the asset, such as "booster-plans.bin".
+	 * 
+	 */
+	public static final void usePlanAsset(Context context, String assetName) {
+		PlanAsset.use(context.getAssets(), assetName);
+	}
+
+	/**
+	 * Creates the binding plans of 'classes' on background threads, so that
+	 * binding them later does not have to. Call this in
+	 * {@code Application.onCreate()} with the classes bound during start up. A
+	 * class bound while its plan is still being created waits for it.
+	 * 
+	 * @param classes Classes which will be bound.
+	 * 
+	 */
+	public static final void preload(Class<?>... classes) {
+		PlanPreloader.preload(classes, null);
+	}
+
+	/**
+	 * Is equivalent to {@link #preload(Class...)}, but takes names of classes,
+	 * which are loaded in background as well.
+	 * 
+	 * @param context Any Context of the application, whose ClassLoader loads the
+	 *        classes.
+	 * @param classNames Names of classes which will be bound.
+	 * 
+	 */
+	public static final void preload(Context context, String... classNames) {
+		PlanPreloader.preload(classNames, context.getClassLoader());
+	}
+
+	/**
+	 * Installs 'metrics' to receive timings of binding phases, plan cache
+	 * statistics and listener dispatch counts. Pass null to stop measuring.
+	 * 
+	 * @param metrics The sink, such as an {@link AggregatingMetrics}, or null.
+	 * 
+	 */
+	public static final void setMetrics(BoosterMetrics metrics) {
+		BoosterMetrics.sInstance = metrics;
+	}
+
+	/**
+	 * Makes listener methods which are not invoked on the main thread run on
+	 * 'executor', instead of on the small thread pool of Booster. Methods of
+	 * {@link ThreadMode#SERIAL} still run one at a time per receiver.
+	 * 
+	 * @param executor The executor, or null for the pool of Booster.
+	 * 
+	 */
+	public static final void setEventExecutor(Executor executor) {
+		EventExecutor.sExecutor = executor;
+	}
+
+	/**
+	 * Installs 'tracer' to mark binding phases and listener methods as sections
+	 * of a trace. Pass {@link BoosterTracer#SYSTEM} to see them in systrace and
+	 * Perfetto, or null to stop tracing. Install the tracer before binding
+	 * starts, a section begun with one tracer is ended with the same tracer.
+	 * 
+	 * @param tracer The tracer, or null.
+	 * 
+	 */
+	public static final void setTracer(BoosterTracer tracer) {
+		BoosterTracer.sInstance = tracer != BoosterTracer.NONE ? tracer : null;
+	}
+
 }
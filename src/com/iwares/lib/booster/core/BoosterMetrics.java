@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/BoosterMetrics.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+/**
+ * Receives measurements of Booster: how long each phase of binding takes per
+ * class, how the plan cache performs and how many events each kind of
+ * listener delivers. Override the methods of interest and install the sink
+ * with {@link Booster#setMetrics(BoosterMetrics)}. Without a sink, measuring
+ * costs a null check.
+ * 
+ * Methods are called on the thread doing the work, often the UI thread, and
+ * must return quickly.
+ * 
+ * @see {@link AggregatingMetrics}
+ */
+public abstract class BoosterMetrics {
+
+	/** {@link com.iwares.lib.booster.annotation.ViewById} fields. */
+	public static final int PHASE_VIEWS = 0;
+
+	/** {@link com.iwares.lib.booster.annotation.ViewFromLayout} fields. */
+	public static final int PHASE_LAYOUTS = 1;
+
+	/** Listener methods. */
+	public static final int PHASE_LISTENERS = 2;
+
+	/** {@link com.iwares.lib.booster.annotation.SystemService} fields. */
+	public static final int PHASE_SERVICES = 3;
+
+	/** {@link com.iwares.lib.booster.annotation.IntentExtra} fields. */
+	public static final int PHASE_EXTRAS = 4;
+
+	static final int PHASE_COUNT = 5;
+
+	static volatile BoosterMetrics sInstance;
+
+	/**
+	 * Called when a phase of binding 'targetClass' has finished.
+	 * 
+	 * @param targetClass The bound class.
+	 * @param phase One of the PHASE_ constants.
+	 * @param nanos Time taken by the phase.
+	 * 
+	 */
+	public void onPhase(Class<?> targetClass, int phase, long nanos) {
+	}
+
+	/**
+	 * Called when the plan of 'targetClass' is found in the plan cache.
+	 * 
+	 * @param targetClass The class of the plan.
+	 * 
+	 */
+	public void onPlanCacheHit(Class<?> targetClass) {
+	}
+
+	/**
+	 * Called when the plan of 'targetClass' was not in the plan cache and has
+	 * been created.
+	 * 
+	 * @param targetClass The class of the plan.
+	 * @param nanos Time taken to create the plan.
+	 * @param cacheSize Number of plans in the cache.
+	 * 
+	 */
+	public void onPlanCacheMiss(Class<?> targetClass, long nanos, int cacheSize) {
+	}
+
+	/**
+	 * Called when preloading the plan of a class failed. Binding the class
+	 * fails with the same error later.
+	 * 
+	 * @param className Name of the class.
+	 * @param error What went wrong.
+	 * 
+	 */
+	public void onPreloadFailed(String className, Throwable error) {
+	}
+
+	/**
+	 * Called before a listener method is invoked for an event.
+	 * 
+	 * @param kind The kind of listener, one of the ON_ constants of
+	 *        {@link BindingPlan}.
+	 * 
+	 */
+	public void onDispatch(int kind) {
+	}
+
+	/**
+	 * Returns a start time for {@link #end(BindingPlan, int, long)}, or 0 if no
+	 * sink is installed.
+	 */
+	static long begin() {
+		return sInstance != null ? System.nanoTime() : 0;
+	}
+
+	static void end(BindingPlan plan, int phase, long start) {
+		BoosterMetrics metrics = sInstance;
+		if (metrics != null && start != 0)
+			metrics.onPhase(plan.mTargetClass, phase, System.nanoTime() - start);
+	}
+
+	static void dispatch(BindingPlan.ListenerBinding binding) {
+		BoosterMetrics metrics = sInstance;
+		if (metrics != null)
+			metrics.onDispatch(binding.mKind);
+	}
+
+}
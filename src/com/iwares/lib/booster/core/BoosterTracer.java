@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/BoosterTracer.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Trace;
+
+/**
+ * Marks what Booster does as named sections of a trace, so that binding and
+ * listener methods show up in systrace and Perfetto. Each phase of binding is
+ * a section named after the phase and the bound class, such as
+ * "Booster.injectViews com.example.MainActivity", and each event delivered to
+ * a listener method is a section named after the receiver class and the
+ * method, which attributes slow frames to the method that caused them.
+ * 
+ * Install a tracer with {@link Booster#setTracer(BoosterTracer)}, preferably
+ * before anything is bound. Without a tracer, tracing costs a null check.
+ * 
+ * @see #SYSTEM
+ */
+public abstract class BoosterTracer {
+
+	/** Ignores all sections. */
+	public static final BoosterTracer NONE = new BoosterTracer() {
+
+		@Override
+		public void beginSection(String sectionName) {
+		}
+
+		@Override
+		public void endSection() {
+		}
+
+	};
+
+	/**
+	 * Writes sections with {@link Trace}, ignores them before Android 4.3 which
+	 * has no such class.
+	 */
+	public static final BoosterTracer SYSTEM = new BoosterTracer() {
+
+		@Override
+		public void beginSection(String sectionName) {
+			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2)
+				traceBegin(sectionName);
+		}
+
+		@Override
+		public void endSection() {
+			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2)
+				traceEnd();
+		}
+
+	};
+
+	/** Longest section name accepted by {@link Trace}. */
+	static final int MAX_SECTION_NAME_LENGTH = 127;
+
+	private static final String[] PHASE_NAMES = new String[] {
+		"Booster.injectViews ",
+		"Booster.inflateLayouts ",
+		"Booster.registerListeners ",
+		"Booster.bindSystemServices ",
+		"Booster.obtainIntentExtras ",
+	};
+
+	static volatile BoosterTracer sInstance;
+
+	/**
+	 * Begins a section, which must be ended by {@link #endSection()} on the
+	 * same thread.
+	 * 
+	 * @param sectionName Name of the section, at most 127 characters.
+	 */
+	public abstract void beginSection(String sectionName);
+
+	/**
+	 * Ends the section most recently begun on the calling thread.
+	 */
+	public abstract void endSection();
+
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+	private static void traceBegin(String sectionName) {
+		Trace.beginSection(sectionName);
+	}
+
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+	private static void traceEnd() {
+		Trace.endSection();
+	}
+
+	/**
+	 * Begins the section of a phase of binding 'plan'. Returns the tracer to end
+	 * it with {@link #end(BoosterTracer)}, or null if no tracer is installed.
+	 */
+	static BoosterTracer begin(BindingPlan plan, int phase) {
+		BoosterTracer tracer = sInstance;
+		if (tracer == null)
+			return null;
+		String[] names = plan.mSectionNames;
+		if (names == null)
+			plan.mSectionNames = names = new String[BoosterMetrics.PHASE_COUNT];
+		String name = names[phase];
+		if (name == null)
+			names[phase] = name = sectionName(PHASE_NAMES[phase] + plan.mTargetClass.getName());
+		tracer.beginSection(name);
+		return tracer;
+	}
+
+	static void end(BoosterTracer tracer) {
+		if (tracer != null)
+			tracer.endSection();
+	}
+
+	/**
+	 * Shortens 'name' to the longest length accepted by {@link Trace}, keeping
+	 * its end which names the class or method.
+	 */
+	static String sectionName(String name) {
+		int length = name.length();
+		if (length <= MAX_SECTION_NAME_LENGTH)
+			return name;
+		return name.substring(length - MAX_SECTION_NAME_LENGTH);
+	}
+
+}
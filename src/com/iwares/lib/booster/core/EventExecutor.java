@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/EventExecutor.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.concurrent.Executor;
+
+import android.os.Process;
+
+import com.iwares.lib.booster.annotation.ThreadMode;
+
+/**
+ * Runs listener methods which are not invoked on the main thread. They run on
+ * an executor installed with {@link Booster#setEventExecutor(Executor)}, or
+ * on a small pool of Booster's own. Methods of {@link ThreadMode#SERIAL} run
+ * one at a time per receiver, in order of the events, through a queue which
+ * is dropped with the receiver.
+ */
+final class EventExecutor {
+
+	static volatile Executor sExecutor;
+
+	private static Executor sDefaultExecutor;
+
+	/**
+	 * Serial queues by receiver. Receivers are compared by identity, as two
+	 * receivers which are equal must still not share a queue, and held weakly.
+	 */
+	private static final HashMap<ReceiverKey, SerialQueue> sQueues = new HashMap<ReceiverKey, SerialQueue>();
+
+	/** Keys of sQueues whose receivers were collected. */
+	private static final ReferenceQueue<Object> sCollected = new ReferenceQueue<Object>();
+
+	private EventExecutor() {
+	}
+
+	private static Executor executor() {
+		Executor executor = sExecutor;
+		if (executor != null)
+			return executor;
+		synchronized (EventExecutor.class) {
+			if (sDefaultExecutor == null) {
+				int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+				sDefaultExecutor = Workers.newPool("Booster-Event", threads, Process.THREAD_PRIORITY_LOWEST);
+			}
+			return sDefaultExecutor;
+		}
+	}
+
+	/**
+	 * Runs 'task' for 'receiver' on the thread of 'thread', which is not
+	 * {@link ThreadMode#MAIN}. The task must not refer to the receiver
+	 * strongly, since a serial queue lives as long as its receiver.
+	 */
+	static void execute(Object receiver, int thread, Runnable task) {
+		if (thread != ThreadMode.SERIAL) {
+			executor().execute(task);
+			return;
+		}
+		SerialQueue queue;
+		synchronized (sQueues) {
+			Reference<?> collected;
+			while ((collected = sCollected.poll()) != null)
+				sQueues.remove(collected);
+			queue = sQueues.get(new ReceiverKey(receiver, null));
+			if (queue == null) {
+				queue = new SerialQueue();
+				sQueues.put(new ReceiverKey(receiver, sCollected), queue);
+			}
+		}
+		queue.execute(task);
+	}
+
+	/**
+	 * A weak reference to a receiver, equal to the references to the same
+	 * receiver.
+	 */
+	private static final class ReceiverKey extends WeakReference<Object> {
+
+		private final int mHash;
+
+		public ReceiverKey(Object receiver, ReferenceQueue<Object> queue) {
+			super(receiver, queue);
+			mHash = System.identityHashCode(receiver);
+		}
+
+		@Override
+		public int hashCode() {
+			return mHash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this)
+				return true;
+			if (!(o instanceof ReceiverKey))
+				return false;
+			Object receiver = get();
+			return receiver != null && receiver == ((ReceiverKey)o).get();
+		}
+
+	}
+
+	/**
+	 * Runs its tasks one after the other on the executor.
+	 */
+	private static final class SerialQueue implements Runnable {
+
+		private final LinkedList<Runnable> mTasks = new LinkedList<Runnable>();
+
+		private boolean mScheduled;
+
+		public void execute(Runnable task) {
+			synchronized (this) {
+				mTasks.add(task);
+				if (mScheduled)
+					return;
+				mScheduled = true;
+			}
+			executor().execute(this);
+		}
+
+		@Override
+		public void run() {
+			Runnable task;
+			synchronized (this) {
+				task = mTasks.poll();
+			}
+			try {
+				task.run();
+			} finally {
+				// One task per turn, so that a serial queue does not hold a
+				// pool thread while other receivers wait.
+				boolean more;
+				synchronized (this) {
+					more = mScheduled = !mTasks.isEmpty();
+				}
+				if (more)
+					executor().execute(this);
+			}
+		}
+
+	}
+
+}
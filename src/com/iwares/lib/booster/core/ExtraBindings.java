@@ -0,0 +1,371 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/ExtraBindings.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.os.Parcelable;
+
+/**
+ * Reflective {@link BindingPlan.ExtraBinding}s. The reader and writer of each
+ * field are chosen by its type once, when the plan is built, so reading and
+ * writing extras does not compare types. Primitive fields are read and written
+ * without boxing.
+ */
+final class ExtraBindings {
+
+	private static final int BOOLEAN_ARRAY = 0;
+	private static final int BYTE_ARRAY = 1;
+	private static final int CHAR_ARRAY = 2;
+	private static final int SHORT_ARRAY = 3;
+	private static final int INT_ARRAY = 4;
+	private static final int LONG_ARRAY = 5;
+	private static final int FLOAT_ARRAY = 6;
+	private static final int DOUBLE_ARRAY = 7;
+	private static final int STRING = 8;
+	private static final int STRING_ARRAY = 9;
+	private static final int BUNDLE = 10;
+	private static final int PARCELABLE = 11;
+	private static final int STRING_ARRAY_LIST = 12;
+	private static final int INTEGER_ARRAY_LIST = 13;
+	private static final int SERIALIZABLE = 14;
+
+	private ExtraBindings() {
+	}
+
+	/**
+	 * Returns the binding which reads extra 'key' into 'field'.
+	 * 
+	 * @param key Name of the extra.
+	 * @param field The field, which must be accessible.
+	 * 
+	 */
+	public static BindingPlan.ExtraBinding of(String key, Field field) {
+		Class<?> clazz = field.getType();
+		if (clazz.isPrimitive()) {
+			if (clazz == boolean.class)
+				return new BooleanExtra(key, field);
+			if (clazz == byte.class)
+				return new ByteExtra(key, field);
+			if (clazz == char.class)
+				return new CharExtra(key, field);
+			if (clazz == short.class)
+				return new ShortExtra(key, field);
+			if (clazz == int.class)
+				return new IntExtra(key, field);
+			if (clazz == long.class)
+				return new LongExtra(key, field);
+			if (clazz == float.class)
+				return new FloatExtra(key, field);
+			if (clazz == double.class)
+				return new DoubleExtra(key, field);
+		}
+		if (clazz == boolean[].class)
+			return new ObjectExtra(key, field, BOOLEAN_ARRAY);
+		if (clazz == byte[].class)
+			return new ObjectExtra(key, field, BYTE_ARRAY);
+		if (clazz == char[].class)
+			return new ObjectExtra(key, field, CHAR_ARRAY);
+		if (clazz == short[].class)
+			return new ObjectExtra(key, field, SHORT_ARRAY);
+		if (clazz == int[].class)
+			return new ObjectExtra(key, field, INT_ARRAY);
+		if (clazz == long[].class)
+			return new ObjectExtra(key, field, LONG_ARRAY);
+		if (clazz == float[].class)
+			return new ObjectExtra(key, field, FLOAT_ARRAY);
+		if (clazz == double[].class)
+			return new ObjectExtra(key, field, DOUBLE_ARRAY);
+		if (clazz == String.class)
+			return new ObjectExtra(key, field, STRING);
+		if (clazz == String[].class)
+			return new ObjectExtra(key, field, STRING_ARRAY);
+		if (clazz == Bundle.class)
+			return new ObjectExtra(key, field, BUNDLE);
+		if (Parcelable.class.isAssignableFrom(clazz))
+			return new ObjectExtra(key, field, PARCELABLE);
+		if (clazz == ArrayList.class) {
+			Class<?> element = elementClassOf(field);
+			if (element == String.class)
+				return new ObjectExtra(key, field, STRING_ARRAY_LIST);
+			if (element == Integer.class)
+				return new ObjectExtra(key, field, INTEGER_ARRAY_LIST);
+		}
+		// Checked last, arrays, Strings and ArrayLists are Serializable too.
+		if (Serializable.class.isAssignableFrom(clazz))
+			return new ObjectExtra(key, field, SERIALIZABLE);
+		throw new RuntimeException("Unexpected type: " + clazz.getName());
+	}
+
+	private static Class<?> elementClassOf(Field field) {
+		Type type = field.getGenericType();
+		if (!(type instanceof ParameterizedType))
+			return null;
+		Type element = ((ParameterizedType)type).getActualTypeArguments()[0];
+		return element instanceof Class ? (Class<?>)element : null;
+	}
+
+	private static class BooleanExtra extends BindingPlan.ExtraBinding {
+
+		public final Field mField;
+
+		public BooleanExtra(String key, Field field) {
+			super(key);
+			mField = field;
+		}
+
+		@Override
+		public void read(Object target, Intent intent) throws Exception {
+			mField.setBoolean(target, intent.getBooleanExtra(mKey, mField.getBoolean(target)));
+		}
+
+		@Override
+		public void write(Object source, Intent intent) throws Exception {
+			intent.putExtra(mKey, mField.getBoolean(source));
+		}
+
+	}
+
+	private static class ByteExtra extends BindingPlan.ExtraBinding {
+
+		public final Field mField;
+
+		public ByteExtra(String key, Field field) {
+			super(key);
+			mField = field;
+		}
+
+		@Override
+		public void read(Object target, Intent intent) throws Exception {
+			mField.setByte(target, intent.getByteExtra(mKey, mField.getByte(target)));
+		}
+
+		@Override
+		public void write(Object source, Intent intent) throws Exception {
+			intent.putExtra(mKey, mField.getByte(source));
+		}
+
+	}
+
+	private static class CharExtra extends BindingPlan.ExtraBinding {
+
+		public final Field mField;
+
+		public CharExtra(String key, Field field) {
+			super(key);
+			mField = field;
+		}
+
+		@Override
+		public void read(Object target, Intent intent) throws Exception {
+			mField.setChar(target, intent.getCharExtra(mKey, mField.getChar(target)));
+		}
+
+		@Override
+		public void write(Object source, Intent intent) throws Exception {
+			intent.putExtra(mKey, mField.getChar(source));
+		}
+
+	}
+
+	private static class ShortExtra extends BindingPlan.ExtraBinding {
+
+		public final Field mField;
+
+		public ShortExtra(String key, Field field) {
+			super(key);
+			mField = field;
+		}
+
+		@Override
+		public void read(Object target, Intent intent) throws Exception {
+			mField.setShort(target, intent.getShortExtra(mKey, mField.getShort(target)));
+		}
+
+		@Override
+		public void write(Object source, Intent intent) throws Exception {
+			intent.putExtra(mKey, mField.getShort(source));
+		}
+
+	}
+
+	private static class IntExtra extends BindingPlan.ExtraBinding {
+
+		public final Field mField;
+
+		public IntExtra(String key, Field field) {
+			super(key);
+			mField = field;
+		}
+
+		@Override
+		public void read(Object target, Intent intent) throws Exception {
+			mField.setInt(target, intent.getIntExtra(mKey, mField.getInt(target)));
+		}
+
+		@Override
+		public void write(Object source, Intent intent) throws Exception {
+			intent.putExtra(mKey, mField.getInt(source));
+		}
+
+	}
+
+	private static class LongExtra extends BindingPlan.ExtraBinding {
+
+		public final Field mField;
+
+		public LongExtra(String key, Field field) {
+			super(key);
+			mField = field;
+		}
+
+		@Override
+		public void read(Object target, Intent intent) throws Exception {
+			mField.setLong(target, intent.getLongExtra(mKey, mField.getLong(target)));
+		}
+
+		@Override
+		public void write(Object source, Intent intent) throws Exception {
+			intent.putExtra(mKey, mField.getLong(source));
+		}
+
+	}
+
+	private static class FloatExtra extends BindingPlan.ExtraBinding {
+
+		public final Field mField;
+
+		public FloatExtra(String key, Field field) {
+			super(key);
+			mField = field;
+		}
+
+		@Override
+		public void read(Object target, Intent intent) throws Exception {
+			mField.setFloat(target, intent.getFloatExtra(mKey, mField.getFloat(target)));
+		}
+
+		@Override
+		public void write(Object source, Intent intent) throws Exception {
+			intent.putExtra(mKey, mField.getFloat(source));
+		}
+
+	}
+
+	private static class DoubleExtra extends BindingPlan.ExtraBinding {
+
+		public final Field mField;
+
+		public DoubleExtra(String key, Field field) {
+			super(key);
+			mField = field;
+		}
+
+		@Override
+		public void read(Object target, Intent intent) throws Exception {
+			mField.setDouble(target, intent.getDoubleExtra(mKey, mField.getDouble(target)));
+		}
+
+		@Override
+		public void write(Object source, Intent intent) throws Exception {
+			intent.putExtra(mKey, mField.getDouble(source));
+		}
+
+	}
+
+	/**
+	 * Reads an extra which is absent if null; the field keeps its value then.
+	 * Likewise a null field is not written.
+	 */
+	private static class ObjectExtra extends BindingPlan.ExtraBinding {
+
+		public final Field mField;
+
+		public final int mType;
+
+		public ObjectExtra(String key, Field field, int type) {
+			super(key);
+			mField = field;
+			mType = type;
+		}
+
+		@Override
+		public void read(Object target, Intent intent) throws Exception {
+			Object value;
+			switch (mType) {
+			case BOOLEAN_ARRAY: value = intent.getBooleanArrayExtra(mKey); break;
+			case BYTE_ARRAY: value = intent.getByteArrayExtra(mKey); break;
+			case CHAR_ARRAY: value = intent.getCharArrayExtra(mKey); break;
+			case SHORT_ARRAY: value = intent.getShortArrayExtra(mKey); break;
+			case INT_ARRAY: value = intent.getIntArrayExtra(mKey); break;
+			case LONG_ARRAY: value = intent.getLongArrayExtra(mKey); break;
+			case FLOAT_ARRAY: value = intent.getFloatArrayExtra(mKey); break;
+			case DOUBLE_ARRAY: value = intent.getDoubleArrayExtra(mKey); break;
+			case STRING: value = intent.getStringExtra(mKey); break;
+			case STRING_ARRAY: value = intent.getStringArrayExtra(mKey); break;
+			case BUNDLE: value = intent.getBundleExtra(mKey); break;
+			case PARCELABLE: value = intent.getParcelableExtra(mKey); break;
+			case STRING_ARRAY_LIST: value = intent.getStringArrayListExtra(mKey); break;
+			case INTEGER_ARRAY_LIST: value = intent.getIntegerArrayListExtra(mKey); break;
+			default: value = intent.getSerializableExtra(mKey); break;
+			}
+			if (value != null)
+				mField.set(target, value);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void write(Object source, Intent intent) throws Exception {
+			Object value = mField.get(source);
+			if (value == null)
+				return;
+			switch (mType) {
+			case BOOLEAN_ARRAY: intent.putExtra(mKey, (boolean[])value); break;
+			case BYTE_ARRAY: intent.putExtra(mKey, (byte[])value); break;
+			case CHAR_ARRAY: intent.putExtra(mKey, (char[])value); break;
+			case SHORT_ARRAY: intent.putExtra(mKey, (short[])value); break;
+			case INT_ARRAY: intent.putExtra(mKey, (int[])value); break;
+			case LONG_ARRAY: intent.putExtra(mKey, (long[])value); break;
+			case FLOAT_ARRAY: intent.putExtra(mKey, (float[])value); break;
+			case DOUBLE_ARRAY: intent.putExtra(mKey, (double[])value); break;
+			case STRING: intent.putExtra(mKey, (String)value); break;
+			case STRING_ARRAY: intent.putExtra(mKey, (String[])value); break;
+			case BUNDLE: intent.putExtra(mKey, (Bundle)value); break;
+			case PARCELABLE: intent.putExtra(mKey, (Parcelable)value); break;
+			case STRING_ARRAY_LIST: intent.putStringArrayListExtra(mKey, (ArrayList<String>)value); break;
+			case INTEGER_ARRAY_LIST: intent.putIntegerArrayListExtra(mKey, (ArrayList<Integer>)value); break;
+			default: intent.putExtra(mKey, (Serializable)value); break;
+			}
+		}
+
+	}
+
+}
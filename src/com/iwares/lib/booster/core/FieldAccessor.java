@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/FieldAccessor.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.lang.reflect.Field;
+
+/**
+ * Reads and writes a field of a bound object. {@link BindingPlan}s built by
+ * scanning a class use reflective accessors, while plans created by generated
+ * binders assign the field directly.
+ */
+public abstract class FieldAccessor {
+
+	/**
+	 * Sets the field of 'target' to 'value'.
+	 * 
+	 * @param target The object who's field will be set.
+	 * @param value The new value of the field.
+	 * 
+	 */
+	public abstract void set(Object target, Object value) throws Exception;
+
+	/**
+	 * Returns the value of the field of 'target'.
+	 * 
+	 * @param target The object who's field will be read.
+	 * 
+	 */
+	public abstract Object get(Object target) throws Exception;
+
+	/**
+	 * Returns a reflective accessor of 'field'. The field is made accessible
+	 * once here instead of on every access.
+	 * 
+	 * @param field The field to access.
+	 * 
+	 */
+	static FieldAccessor of(Field field) {
+		field.setAccessible(true);
+		return new ReflectiveFieldAccessor(field);
+	}
+
+	private static class ReflectiveFieldAccessor extends FieldAccessor {
+
+		public final Field mField;
+
+		public ReflectiveFieldAccessor(Field field) {
+			mField = field;
+		}
+
+		@Override
+		public void set(Object target, Object value) throws Exception {
+			mField.set(target, value);
+		}
+
+		@Override
+		public Object get(Object target) throws Exception {
+			return mField.get(target);
+		}
+
+	}
+
+}
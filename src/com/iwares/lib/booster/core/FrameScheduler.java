@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/FrameScheduler.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.Choreographer;
+
+/**
+ * Runs a task on the main thread once before the next frame is drawn, however
+ * often it is scheduled until then. Android 4.1 and later are synchronized to
+ * frames through {@link Choreographer}; older versions, which deliver input
+ * without frame alignment, run the task after the pending input is handled.
+ * Use it on the main thread only.
+ */
+final class FrameScheduler implements Runnable {
+
+	private final Runnable mTask;
+
+	/** The Choreographer.FrameCallback, typed Object for older versions. */
+	private Object mFrameCallback;
+
+	private boolean mScheduled;
+
+	public FrameScheduler(Runnable task) {
+		mTask = task;
+	}
+
+	public void schedule() {
+		if (mScheduled)
+			return;
+		mScheduled = true;
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+			if (mFrameCallback == null)
+				mFrameCallback = newFrameCallback(this);
+			postFrameCallback(mFrameCallback);
+		} else {
+			Workers.mainHandler().post(this);
+		}
+	}
+
+	public void cancel() {
+		if (!mScheduled)
+			return;
+		mScheduled = false;
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN)
+			removeFrameCallback(mFrameCallback);
+		else
+			Workers.mainHandler().removeCallbacks(this);
+	}
+
+	@Override
+	public void run() {
+		if (!mScheduled)
+			return;
+		mScheduled = false;
+		mTask.run();
+	}
+
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	private static Object newFrameCallback(final Runnable runnable) {
+		return new Choreographer.FrameCallback() {
+			@Override
+			public void doFrame(long frameTimeNanos) {
+				runnable.run();
+			}
+		};
+	}
+
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	private static void postFrameCallback(Object callback) {
+		Choreographer.getInstance().postFrameCallback((Choreographer.FrameCallback)callback);
+	}
+
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	private static void removeFrameCallback(Object callback) {
+		Choreographer.getInstance().removeFrameCallback((Choreographer.FrameCallback)callback);
+	}
+
+}
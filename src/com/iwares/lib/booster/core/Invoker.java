@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/Invoker.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import android.view.KeyEvent;
+import android.view.MotionEvent;
+import android.view.View;
+import android.widget.AdapterView;
+import android.widget.TextView;
+
+/**
+ * Calls an annotated listener method of a receiver. There is one nested
+ * interface for each listener signature supported by {@link Booster}, and an
+ * invoker implements the one matching the annotations of its method, so a
+ * generated invoker lacking its method does not compile. Methods whose listener
+ * interface returns nothing return false.
+ */
+public interface Invoker {
+
+	/** {@link BindingPlan#ON_CLICK} and {@link BindingPlan#ON_LONG_CLICK}. */
+	public interface OfView extends Invoker {
+		boolean invoke(Object receiver, View view) throws Exception;
+	}
+
+	/** {@link BindingPlan#ON_TOUCH}. */
+	public interface OfTouch extends Invoker {
+		boolean invoke(Object receiver, View view, MotionEvent event) throws Exception;
+	}
+
+	/** {@link BindingPlan#ON_FOCUS_CHANGED}. */
+	public interface OfFocus extends Invoker {
+		boolean invoke(Object receiver, View view, boolean hasFocus) throws Exception;
+	}
+
+	/**
+	 * {@link BindingPlan#ON_ITEM_CLICK}, {@link BindingPlan#ON_ITEM_LONG_CLICK}
+	 * and {@link BindingPlan#ON_ITEM_SELECTED}.
+	 */
+	public interface OfItem extends Invoker {
+		boolean invoke(Object receiver, AdapterView<?> parent, View view, int position, long id) throws Exception;
+	}
+
+	/** {@link BindingPlan#ON_EDITOR_ACTION}. */
+	public interface OfEditorAction extends Invoker {
+		boolean invoke(Object receiver, TextView view, int actionId, KeyEvent event) throws Exception;
+	}
+
+	/** {@link BindingPlan#ON_TEXT_CHANGED}. */
+	public interface OfText extends Invoker {
+		boolean invoke(Object receiver, TextView view, CharSequence text) throws Exception;
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/LazyView.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import android.view.View;
+
+/**
+ * A {@link View} which is found on first access. Declare a field of this type
+ * with {@link com.iwares.lib.booster.annotation.ViewById} or
+ * {@link com.iwares.lib.booster.annotation.ViewByIdEx} to defer the
+ * findViewById call, and so its walk of the view tree, until {@link #get()}
+ * is called. Views which are never used cost nothing to look up.
+ * 
+ * <pre>
+ * &#64;ViewById(R.id.error_panel)
+ * private LazyView&lt;ViewGroup&gt; mErrorPanel;
+ * 
+ * mErrorPanel.get().setVisibility(View.VISIBLE);
+ * </pre>
+ * 
+ * A {@link com.iwares.lib.booster.annotation.ViewFromLayout} field of this
+ * type is inflated in background as soon as it is bound. {@link #get()}
+ * returns the inflated View, waiting for the inflation to finish, or inflating
+ * the layout itself if no worker has picked it up yet.
+ * 
+ * Like findViewById, {@link #get()} must be called on the UI thread.
+ */
+public final class LazyView<T extends View> {
+
+	private Object mSource;
+
+	private SourceResolver.ViewFinder mViewFinder;
+
+	private final int mId;
+
+	private AsyncInflater.Task mTask;
+
+	private T mView;
+
+	LazyView(Object source, SourceResolver.ViewFinder viewFinder, int id) {
+		mSource = source;
+		mViewFinder = viewFinder;
+		mId = id;
+	}
+
+	LazyView(AsyncInflater.Task task) {
+		mTask = task;
+		mId = View.NO_ID;
+	}
+
+	/**
+	 * Returns the View, finding it on the first call.
+	 */
+	@SuppressWarnings("unchecked")
+	public T get() {
+		if (mSource != null) {
+			try {
+				mView = (T)mViewFinder.findViewById(mSource, mId);
+			} catch (Exception e) {
+				throw new RuntimeException("Failed to find View", e);
+			}
+			// The source is not needed any more.
+			mSource = null;
+			mViewFinder = null;
+		} else if (mTask != null) {
+			mView = (T)mTask.get();
+			mTask = null;
+		}
+		return mView;
+	}
+
+	/**
+	 * Returns the id of the View, or {@link View#NO_ID} for an inflated layout.
+	 */
+	public int getId() {
+		return mId;
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/MethodInvoker.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import android.view.KeyEvent;
+import android.view.MotionEvent;
+import android.view.View;
+import android.widget.AdapterView;
+import android.widget.TextView;
+
+/**
+ * An {@link Invoker} of every shape which calls its method through reflection. The method is
+ * made accessible once, and the argument array is reused between calls.
+ * Primitive arguments are boxed through caches shared by all invokers, which
+ * keep the box of each value from 0 to {@link #MAX_BOXED} once it has been
+ * used, so item positions and ids, and editor action ids, are dispatched
+ * without allocating after the first event of each value. Other values are
+ * boxed with valueOf. Generated binders pass primitives without boxing at all.
+ */
+class MethodInvoker implements Invoker.OfView, Invoker.OfTouch, Invoker.OfFocus, Invoker.OfItem,
+		Invoker.OfEditorAction, Invoker.OfText {
+
+	/** Parameter types passed by the invoker of each listener kind, by kind. */
+	private static final Class<?>[][] PARAMETER_TYPES = {
+		{ View.class },
+		{ View.class },
+		{ AdapterView.class, View.class, int.class, long.class },
+		{ AdapterView.class, View.class, int.class, long.class },
+		{ AdapterView.class, View.class, int.class, long.class },
+		{ View.class, MotionEvent.class },
+		{ View.class, boolean.class },
+		{ TextView.class, int.class, KeyEvent.class },
+		{ TextView.class, CharSequence.class },
+	};
+
+	/** Values from 0 up to this one have their boxes cached. */
+	static final int MAX_BOXED = 0xFFFF;
+
+	private static volatile Integer[] sIntegers = new Integer[256];
+
+	private static volatile Long[] sLongs = new Long[256];
+
+	public final Method mMethod;
+
+	private final int mArity;
+
+	/** The spare argument array, taken while a call is in progress. */
+	private final AtomicReference<Object[]> mSpareArgs;
+
+	public MethodInvoker(Method method) {
+		method.setAccessible(true);
+		mMethod = method;
+		mArity = method.getParameterTypes().length;
+		mSpareArgs = new AtomicReference<Object[]>(new Object[mArity]);
+	}
+
+	/**
+	 * Throws if the parameters of 'method' do not fit the listener of 'kind', so
+	 * a wrong signature fails when the plan is built instead of on the first
+	 * event. A parameter may narrow the type passed, such as a ListView for the
+	 * AdapterView.
+	 * 
+	 * @param method The listener method.
+	 * @param kind One of the listener kinds of {@link BindingPlan}.
+	 * 
+	 */
+	static void checkSignature(Method method, int kind) {
+		if (kind < 0 || kind >= PARAMETER_TYPES.length)
+			throw new RuntimeException("Unexpected listener kind: " + kind);
+		Class<?>[] expected = PARAMETER_TYPES[kind];
+		Class<?>[] types = method.getParameterTypes();
+		boolean match = types.length == expected.length;
+		for (int i = 0, c = types.length; i < c && match; ++i) {
+			if (expected[i].isPrimitive())
+				match = types[i] == expected[i];
+			else
+				match = types[i].isAssignableFrom(expected[i]) || expected[i].isAssignableFrom(types[i]);
+		}
+		if (!match)
+			throw new RuntimeException("Unexpected parameters of listener method " + method.getName() + ", expected "
+					+ Arrays.toString(expected));
+	}
+
+	private Object[] obtainArgs(int count) {
+		// A nested or concurrent call finds no spare array and allocates one.
+		Object[] args = mSpareArgs.getAndSet(null);
+		return args != null && args.length == count ? args : new Object[count];
+	}
+
+	private Object call(Object receiver, Object[] args) throws Exception {
+		try {
+			return mMethod.invoke(receiver, args);
+		} finally {
+			Arrays.fill(args, null);
+			if (args.length == mArity)
+				mSpareArgs.set(args);
+		}
+	}
+
+	/**
+	 * Returns the cached box of 'value'. Two threads boxing the same value at
+	 * the same time may both create a box, which does no harm.
+	 */
+	static Integer box(int value) {
+		if (value < 0 || value > MAX_BOXED)
+			return Integer.valueOf(value);
+		Integer[] boxes = sIntegers;
+		if (value >= boxes.length)
+			boxes = growIntegers(value);
+		Integer box = boxes[value];
+		if (box == null)
+			boxes[value] = box = Integer.valueOf(value);
+		return box;
+	}
+
+	static Long box(long value) {
+		if (value < 0 || value > MAX_BOXED)
+			return Long.valueOf(value);
+		Long[] boxes = sLongs;
+		if (value >= boxes.length)
+			boxes = growLongs((int)value);
+		Long box = boxes[(int)value];
+		if (box == null)
+			boxes[(int)value] = box = Long.valueOf(value);
+		return box;
+	}
+
+	private static synchronized Integer[] growIntegers(int value) {
+		Integer[] boxes = sIntegers;
+		if (value >= boxes.length) {
+			Integer[] grown = new Integer[Math.min(Math.max(boxes.length * 2, value + 1), MAX_BOXED + 1)];
+			System.arraycopy(boxes, 0, grown, 0, boxes.length);
+			sIntegers = boxes = grown;
+		}
+		return boxes;
+	}
+
+	private static synchronized Long[] growLongs(int value) {
+		Long[] boxes = sLongs;
+		if (value >= boxes.length) {
+			Long[] grown = new Long[Math.min(Math.max(boxes.length * 2, value + 1), MAX_BOXED + 1)];
+			System.arraycopy(boxes, 0, grown, 0, boxes.length);
+			sLongs = boxes = grown;
+		}
+		return boxes;
+	}
+
+	private static boolean toBoolean(Object result) {
+		return result instanceof Boolean && (Boolean)result;
+	}
+
+	@Override
+	public boolean invoke(Object receiver, View view) throws Exception {
+		Object[] args = obtainArgs(1);
+		args[0] = view;
+		return toBoolean(call(receiver, args));
+	}
+
+	@Override
+	public boolean invoke(Object receiver, View view, MotionEvent event) throws Exception {
+		Object[] args = obtainArgs(2);
+		args[0] = view;
+		args[1] = event;
+		return toBoolean(call(receiver, args));
+	}
+
+	@Override
+	public boolean invoke(Object receiver, View view, boolean hasFocus) throws Exception {
+		Object[] args = obtainArgs(2);
+		args[0] = view;
+		args[1] = Boolean.valueOf(hasFocus);
+		return toBoolean(call(receiver, args));
+	}
+
+	@Override
+	public boolean invoke(Object receiver, AdapterView<?> parent, View view, int position, long id) throws Exception {
+		Object[] args = obtainArgs(4);
+		args[0] = parent;
+		args[1] = view;
+		args[2] = box(position);
+		args[3] = box(id);
+		return toBoolean(call(receiver, args));
+	}
+
+	@Override
+	public boolean invoke(Object receiver, TextView view, int actionId, KeyEvent event) throws Exception {
+		Object[] args = obtainArgs(3);
+		args[0] = view;
+		args[1] = box(actionId);
+		args[2] = event;
+		return toBoolean(call(receiver, args));
+	}
+
+	@Override
+	public boolean invoke(Object receiver, TextView view, CharSequence text) throws Exception {
+		Object[] args = obtainArgs(2);
+		args[0] = view;
+		args[1] = text;
+		return toBoolean(call(receiver, args));
+	}
+
+}
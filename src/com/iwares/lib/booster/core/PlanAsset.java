@@ -0,0 +1,307 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/PlanAsset.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+
+/**
+ * Reads {@link BindingPlan}s precomputed at build time by
+ * {@code com.iwares.lib.booster.processor.PlanAssetWriter}. The asset records
+ * member names, resolved resource ids and listener kinds, so creating a plan
+ * from it takes a table lookup and the resolution of each member, without
+ * scanning annotations.
+ * 
+ * Each record carries a fingerprint of the declared members of its class, see
+ * {@link #fingerprint(Class)}. A record whose fingerprint does not match the
+ * class is not used and the class is scanned instead. Changing only the values
+ * of annotations, such as a view id, does not change the fingerprint, so the
+ * asset must be written again on every build. An asset which can not be read
+ * is ignored altogether.
+ * 
+ * The asset is memory-mapped on first use. Assets compressed by aapt can not
+ * be mapped and are read into memory instead.
+ * 
+ * All values are big-endian:
+ * 
+ * <pre>
+ * int magic, int version, int classCount
+ * classCount * { utf className, int offset }
+ * at offset:
+ *   int fingerprint
+ *   int count, count * { utf field, int id, byte lazy }        views
+ *   int count, count * { utf field, int id, byte lazy }        layouts
+ *   int count, count * { utf method, byte paramCount,
+ *                        paramCount * utf paramType,
+ *                        byte kind, int idCount, idCount * int id,
+ *                        int minIntervalMs, int debounceMs,
+ *                        byte thread, byte flags }             listeners
+ *   int count, count * { utf field }                           services
+ *   int count, count * { utf field, utf key }                  extras
+ * utf: unsigned short length, UTF-8 bytes
+ * </pre>
+ */
+final class PlanAsset {
+
+	static final int MAGIC = 0x42504C4E;
+	static final int VERSION = 5;
+
+	private static AssetManager sAssets;
+
+	private static String sName;
+
+	private static ByteBuffer sBuffer;
+
+	private static HashMap<String, Integer> sOffsets;
+
+	private PlanAsset() {
+	}
+
+	/**
+	 * Reads plans from asset 'name' of 'assets' from now on. The asset is
+	 * opened when the first plan is needed.
+	 */
+	static synchronized void use(AssetManager assets, String name) {
+		sAssets = assets;
+		sName = name;
+		sBuffer = null;
+		sOffsets = null;
+	}
+
+	/**
+	 * Returns the plan of 'targetClass' recorded in the asset, or null if there
+	 * is no usable asset, the class is not in it or has changed since.
+	 */
+	static BindingPlan read(Class<?> targetClass) {
+		ByteBuffer buffer;
+		synchronized (PlanAsset.class) {
+			if (sAssets == null)
+				return null;
+			if (sOffsets == null) {
+				try {
+					load();
+				} catch (Exception e) {
+					// A missing or broken asset only costs the speed up, scan instead.
+					sAssets = null;
+					return null;
+				}
+			}
+			Integer offset = sOffsets.get(targetClass.getName());
+			if (offset == null)
+				return null;
+			buffer = sBuffer.duplicate();
+			buffer.position(offset);
+		}
+		try {
+			if (buffer.getInt() != fingerprint(targetClass))
+				return null;
+			return decode(targetClass, buffer);
+		} catch (Exception e) {
+			// The record does not fit the class. Scanning it reports the real
+			// error, if there is one.
+			return null;
+		}
+	}
+
+	/**
+	 * Returns a hash of the names and types of the declared fields and methods
+	 * of 'cls', which does not depend on their order. Must match
+	 * {@code PlanAssetWriter.fingerprint()}.
+	 */
+	static int fingerprint(Class<?> cls) {
+		int hash = 0;
+		Field[] fields = cls.getDeclaredFields();
+		for (int i = 0, c = fields.length; i < c; ++i) {
+			Field field = fields[i];
+			if (!field.isSynthetic())
+				hash += mix((field.getName() + ' ' + field.getType().getName()).hashCode());
+		}
+		Method[] methods = cls.getDeclaredMethods();
+		StringBuilder signature = new StringBuilder();
+		for (int i = 0, c = methods.length; i < c; ++i) {
+			Method method = methods[i];
+			if (method.isSynthetic())
+				continue;
+			signature.setLength(0);
+			signature.append(method.getName()).append('(');
+			Class<?>[] parameterTypes = method.getParameterTypes();
+			for (int j = 0, d = parameterTypes.length; j < d; ++j)
+				signature.append(parameterTypes[j].getName()).append(',');
+			signature.append(')').append(method.getReturnType().getName());
+			hash += mix(signature.toString().hashCode());
+		}
+		return hash;
+	}
+
+	private static int mix(int hash) {
+		return (hash ^ (hash >>> 16)) * 0x9E3779B1;
+	}
+
+	private static void load() throws IOException {
+		ByteBuffer buffer = map(sAssets, sName);
+		if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+			throw new IOException("Unsupported plan asset");
+		int count = buffer.getInt();
+		HashMap<String, Integer> offsets = new HashMap<String, Integer>(count * 2);
+		for (int i = 0; i < count; ++i) {
+			String name = string(buffer);
+			offsets.put(name, buffer.getInt());
+		}
+		sBuffer = buffer;
+		sOffsets = offsets;
+	}
+
+	private static ByteBuffer map(AssetManager assets, String name) throws IOException {
+		AssetFileDescriptor descriptor;
+		try {
+			descriptor = assets.openFd(name);
+		} catch (FileNotFoundException e) {
+			// Compressed assets have no file descriptor.
+			return read(assets.open(name));
+		}
+		FileInputStream in = new FileInputStream(descriptor.getFileDescriptor());
+		try {
+			// The mapping stays valid after the file is closed.
+			return in.getChannel().map(FileChannel.MapMode.READ_ONLY, descriptor.getStartOffset(), descriptor.getLength());
+		} finally {
+			in.close();
+			descriptor.close();
+		}
+	}
+
+	private static ByteBuffer read(InputStream in) throws IOException {
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] bytes = new byte[4096];
+			for (int n; (n = in.read(bytes)) != -1;)
+				out.write(bytes, 0, n);
+			return ByteBuffer.wrap(out.toByteArray());
+		} finally {
+			in.close();
+		}
+	}
+
+	private static BindingPlan decode(Class<?> targetClass, ByteBuffer buffer) throws NoSuchFieldException, NoSuchMethodException {
+		BindingPlan.ViewBinding[] views = views(targetClass, buffer);
+		BindingPlan.ViewBinding[] layouts = views(targetClass, buffer);
+
+		int count = buffer.getInt();
+		BindingPlan.ListenerBinding[] listeners = new BindingPlan.ListenerBinding[count];
+		Method[] methods = count != 0 ? targetClass.getDeclaredMethods() : null;
+		// All bindings of one method share the same invoker.
+		HashMap<Method, Invoker> invokers = new HashMap<Method, Invoker>();
+		for (int i = 0; i < count; ++i) {
+			Method method = method(methods, buffer);
+			Invoker invoker = invokers.get(method);
+			if (invoker == null) {
+				invoker = new MethodInvoker(method);
+				invokers.put(method, invoker);
+			}
+			int kind = buffer.get();
+			MethodInvoker.checkSignature(method, kind);
+			int[] ids = new int[buffer.getInt()];
+			for (int j = 0, c = ids.length; j < c; ++j)
+				ids[j] = buffer.getInt();
+			int minIntervalMs = buffer.getInt();
+			int debounceMs = buffer.getInt();
+			int thread = buffer.get();
+			int flags = buffer.get();
+			listeners[i] = new BindingPlan.ListenerBinding(kind, ids, invoker, method.getName(), minIntervalMs, debounceMs,
+					thread, flags);
+		}
+
+		count = buffer.getInt();
+		BindingPlan.ServiceBinding[] services = new BindingPlan.ServiceBinding[count];
+		for (int i = 0; i < count; ++i) {
+			Field field = targetClass.getDeclaredField(string(buffer));
+			services[i] = new BindingPlan.ServiceBinding(FieldAccessor.of(field), field.getType());
+		}
+
+		count = buffer.getInt();
+		BindingPlan.ExtraBinding[] extras = new BindingPlan.ExtraBinding[count];
+		for (int i = 0; i < count; ++i) {
+			Field field = targetClass.getDeclaredField(string(buffer));
+			field.setAccessible(true);
+			extras[i] = ExtraBindings.of(string(buffer), field);
+		}
+
+		return new BindingPlan(targetClass, views, layouts, listeners, services, extras);
+	}
+
+	private static BindingPlan.ViewBinding[] views(Class<?> targetClass, ByteBuffer buffer) throws NoSuchFieldException {
+		BindingPlan.ViewBinding[] views = new BindingPlan.ViewBinding[buffer.getInt()];
+		for (int i = 0, c = views.length; i < c; ++i) {
+			Field field = targetClass.getDeclaredField(string(buffer));
+			int id = buffer.getInt();
+			views[i] = new BindingPlan.ViewBinding(FieldAccessor.of(field), id, buffer.get() != 0);
+		}
+		return views;
+	}
+
+	private static Method method(Method[] methods, ByteBuffer buffer) throws NoSuchMethodException {
+		String name = string(buffer);
+		String[] parameterTypes = new String[buffer.get()];
+		for (int i = 0, c = parameterTypes.length; i < c; ++i)
+			parameterTypes[i] = string(buffer);
+		for (int i = 0, c = methods.length; i < c; ++i) {
+			Method method = methods[i];
+			if (method.getName().equals(name) && matches(method.getParameterTypes(), parameterTypes))
+				return method;
+		}
+		throw new NoSuchMethodException(name);
+	}
+
+	private static boolean matches(Class<?>[] types, String[] names) {
+		if (types.length != names.length)
+			return false;
+		for (int i = 0, c = types.length; i < c; ++i) {
+			if (!types[i].getName().equals(names[i]))
+				return false;
+		}
+		return true;
+	}
+
+	private static String string(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+		buffer.get(bytes);
+		try {
+			return new String(bytes, "UTF-8");
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/PlanPreloader.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import android.os.Process;
+
+/**
+ * Creates {@link BindingPlan}s in background. The classes are split into one
+ * share per processor and the shares are created in parallel. Whoever needs a
+ * plan while it is being created does not wait for it, but creates it as well.
+ * Failures are reported to {@link BoosterMetrics#onPreloadFailed}.
+ */
+final class PlanPreloader implements Runnable {
+
+	private static ThreadPoolExecutor sExecutor;
+
+	/** Classes, or names of classes loaded by mLoader. */
+	private final Object[] mClasses;
+
+	private final ClassLoader mLoader;
+
+	private final int mFirst;
+
+	private final int mStep;
+
+	private PlanPreloader(Object[] classes, ClassLoader loader, int first, int step) {
+		mClasses = classes;
+		mLoader = loader;
+		mFirst = first;
+		mStep = step;
+	}
+
+	private static synchronized ThreadPoolExecutor executor() {
+		if (sExecutor == null)
+			sExecutor = Workers.newPool("Booster-Preloader", Runtime.getRuntime().availableProcessors(),
+					Process.THREAD_PRIORITY_BACKGROUND);
+		return sExecutor;
+	}
+
+	/**
+	 * Starts creating the plans of 'classes', which are Classes or names of
+	 * classes loaded by 'loader'.
+	 */
+	public static void preload(Object[] classes, ClassLoader loader) {
+		ThreadPoolExecutor executor = executor();
+		int shares = Math.min(classes.length, executor.getMaximumPoolSize());
+		for (int i = 0; i < shares; ++i)
+			executor.execute(new PlanPreloader(classes, loader, i, shares));
+	}
+
+	@Override
+	public void run() {
+		for (int i = mFirst, c = mClasses.length; i < c; i += mStep) {
+			Object cls = mClasses[i];
+			try {
+				if (cls instanceof String)
+					cls = Class.forName((String)cls, false, mLoader);
+				BindingPlan.of((Class<?>)cls);
+			} catch (RuntimeException e) {
+				failed(mClasses[i], e);
+			} catch (ClassNotFoundException e) {
+				failed(mClasses[i], e);
+			} catch (LinkageError e) {
+				failed(mClasses[i], e);
+			}
+		}
+	}
+
+	/**
+	 * Preloading is only a hint, the error is thrown again when the class is
+	 * bound. Other errors, such as running out of memory, are not caught.
+	 */
+	private static void failed(Object cls, Throwable error) {
+		BoosterMetrics metrics = BoosterMetrics.sInstance;
+		if (metrics != null)
+			metrics.onPreloadFailed(cls instanceof Class ? ((Class<?>)cls).getName() : (String)cls, error);
+	}
+
+}
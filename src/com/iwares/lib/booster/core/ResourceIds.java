@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/ResourceIds.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+
+/**
+ * Resolves resource names used by the *Ex annotations, such as
+ * {@code @ViewByIdEx(cls = R.id.class, id = "title")}, to resource ids. The
+ * first lookup in an R class reads all of its ids into a table with a single
+ * reflective call; later lookups in the same class are table lookups. Tables
+ * are shared by the whole process.
+ */
+public final class ResourceIds {
+
+	private static final HashMap<Class<?>, HashMap<String, Integer>> sTables = new HashMap<Class<?>, HashMap<String, Integer>>();
+
+	private ResourceIds() {
+	}
+
+	/**
+	 * Returns the id named 'name' in R class 'cls'.
+	 * 
+	 * @param cls An R class, such as {@code R.id.class}.
+	 * @param name Name of the resource.
+	 * 
+	 */
+	public static int get(Class<?> cls, String name) {
+		Integer id = tableOf(cls).get(name);
+		if (id == null)
+			throw new RuntimeException("Resource not found: " + cls.getName() + "." + name);
+		return id;
+	}
+
+	/**
+	 * Builds the tables of the given R classes ahead of their first use, for
+	 * example in {@code Application.onCreate()}.
+	 * 
+	 * @param classes R classes, such as {@code R.id.class}.
+	 * 
+	 */
+	public static void preload(Class<?>... classes) {
+		for (int i = 0, c = classes.length; i < c; ++i)
+			tableOf(classes[i]);
+	}
+
+	private static HashMap<String, Integer> tableOf(Class<?> cls) {
+		synchronized (sTables) {
+			HashMap<String, Integer> table = sTables.get(cls);
+			if (table == null) {
+				table = build(cls);
+				sTables.put(cls, table);
+			}
+			return table;
+		}
+	}
+
+	private static HashMap<String, Integer> build(Class<?> cls) {
+		try {
+			Field[] fields = cls.getFields();
+			HashMap<String, Integer> table = new HashMap<String, Integer>(fields.length * 2);
+			for (int i = 0, c = fields.length; i < c; ++i) {
+				Field field = fields[i];
+				if (Modifier.isStatic(field.getModifiers()) && field.getType() == int.class)
+					table.put(field.getName(), field.getInt(null));
+			}
+			return table;
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to read resource ids of " + cls.getName(), e);
+		}
+	}
+
+}
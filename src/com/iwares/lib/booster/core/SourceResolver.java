@@ -0,0 +1,414 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/SourceResolver.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+
+import android.annotation.TargetApi;
+import android.app.Activity;
+import android.app.Dialog;
+import android.app.Fragment;
+import android.content.Context;
+import android.content.Intent;
+import android.os.Build;
+import android.view.View;
+
+/**
+ * Resolves the Views, the {@link Context} and the {@link Intent} of a source
+ * object. How a source class provides each of them is worked out once and
+ * remembered, as is a class providing none, so sources are not searched for
+ * methods on every bind, and missing methods do not throw. Activities, Views,
+ * Dialogs and Fragments are served without reflection; other sources need a
+ * public findViewById, getContext or getIntent method, and Fragments of the
+ * support library are served through their getView and getActivity methods.
+ */
+final class SourceResolver {
+
+	/**
+	 * Finds the Views of a source.
+	 */
+	static abstract class ViewFinder {
+
+		/**
+		 * Returns the View with 'id' in 'source', or null if there is no such View.
+		 */
+		public abstract View findViewById(Object source, int id) throws Exception;
+
+		/**
+		 * Returns the root View of 'source', or null if it is not known.
+		 */
+		public View rootOf(Object source) throws Exception {
+			return null;
+		}
+
+	}
+
+	/**
+	 * Provides the Context of a source.
+	 */
+	static abstract class ContextProvider {
+
+		/**
+		 * Returns the Context of 'source', or null if it has none now.
+		 */
+		public abstract Context contextOf(Object source) throws Exception;
+
+	}
+
+	/**
+	 * Provides the Intent of a source.
+	 */
+	static abstract class IntentProvider {
+
+		/**
+		 * Returns the Intent of 'source', or null if it has none now.
+		 */
+		public abstract Intent intentOf(Object source) throws Exception;
+
+	}
+
+	/** Resolvers by source class. */
+	private static final HashMap<Class<?>, SourceResolver> sResolvers = new HashMap<Class<?>, SourceResolver>();
+
+	/** The ViewFinder of the source class, or null if it has no Views. */
+	public final ViewFinder mViewFinder;
+
+	/** The ContextProvider of the source class, or null if it has no Context. */
+	public final ContextProvider mContextProvider;
+
+	/** The IntentProvider of the source class, or null if it has no Intent. */
+	public final IntentProvider mIntentProvider;
+
+	private SourceResolver(ViewFinder viewFinder, ContextProvider contextProvider, IntentProvider intentProvider) {
+		mViewFinder = viewFinder;
+		mContextProvider = contextProvider;
+		mIntentProvider = intentProvider;
+	}
+
+	/**
+	 * Returns the resolver of 'sourceClass', creating it on the first call.
+	 */
+	public static SourceResolver of(Class<?> sourceClass) {
+		synchronized (sResolvers) {
+			SourceResolver resolver = sResolvers.get(sourceClass);
+			if (resolver == null) {
+				resolver = create(sourceClass);
+				sResolvers.put(sourceClass, resolver);
+			}
+			return resolver;
+		}
+	}
+
+	private static SourceResolver create(Class<?> sourceClass) {
+		if (Activity.class.isAssignableFrom(sourceClass))
+			return new SourceResolver(ACTIVITY, SELF, ACTIVITY_INTENT);
+		// Views and Dialogs have no Intent of their own, but subclasses may add a
+		// getIntent().
+		if (View.class.isAssignableFrom(sourceClass))
+			return new SourceResolver(VIEW, VIEW_CONTEXT, reflectiveIntentProvider(sourceClass));
+		if (Dialog.class.isAssignableFrom(sourceClass))
+			return new SourceResolver(DIALOG, DIALOG_CONTEXT, reflectiveIntentProvider(sourceClass));
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB && isFragment(sourceClass)) {
+			FragmentResolver fragment = new FragmentResolver();
+			return new SourceResolver(fragment.mViewFinder, fragment.mContextProvider, fragment.mIntentProvider);
+		}
+		return new SourceResolver(reflectiveViewFinder(sourceClass), reflectiveContextProvider(sourceClass),
+				reflectiveIntentProvider(sourceClass));
+	}
+
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB)
+	private static boolean isFragment(Class<?> sourceClass) {
+		return Fragment.class.isAssignableFrom(sourceClass);
+	}
+
+	private static ViewFinder reflectiveViewFinder(Class<?> sourceClass) {
+		Method method = publicMethod(sourceClass, "findViewById", View.class, int.class);
+		if (method != null)
+			return new MethodViewFinder(method);
+		method = publicMethod(sourceClass, "getView", View.class);
+		if (method != null)
+			return new RootViewFinder(method);
+		return null;
+	}
+
+	private static ContextProvider reflectiveContextProvider(Class<?> sourceClass) {
+		Method method = publicMethod(sourceClass, "getContext", Context.class);
+		if (method == null)
+			method = publicMethod(sourceClass, "getActivity", Context.class);
+		if (method != null)
+			return new MethodContextProvider(method, Context.class.isAssignableFrom(sourceClass));
+		if (Context.class.isAssignableFrom(sourceClass))
+			return SELF;
+		return null;
+	}
+
+	private static IntentProvider reflectiveIntentProvider(Class<?> sourceClass) {
+		Method method = publicMethod(sourceClass, "getIntent", Intent.class);
+		if (method != null)
+			return new MethodIntentProvider(method, Intent.class.isAssignableFrom(sourceClass));
+		if (Intent.class.isAssignableFrom(sourceClass))
+			return SELF_INTENT;
+		method = publicMethod(sourceClass, "getActivity", Activity.class);
+		if (method != null)
+			return new ActivityIntentProvider(method);
+		return null;
+	}
+
+	/**
+	 * Returns the public method 'name' of 'sourceClass' which takes 'parameters'
+	 * and returns 'returnType' or a subtype, or null if there is no such method.
+	 * Unlike {@link Class#getMethod}, a missing method does not throw. The method
+	 * is made accessible once here, as sources are often non-public classes.
+	 */
+	private static Method publicMethod(Class<?> sourceClass, String name, Class<?> returnType, Class<?>... parameters) {
+		Method[] methods = sourceClass.getMethods();
+		for (int i = 0, c = methods.length; i < c; ++i) {
+			Method method = methods[i];
+			if (!method.getName().equals(name) || !returnType.isAssignableFrom(method.getReturnType()))
+				continue;
+			Class<?>[] types = method.getParameterTypes();
+			if (types.length != parameters.length)
+				continue;
+			boolean match = true;
+			for (int j = 0, d = types.length; j < d && match; ++j)
+				match = types[j] == parameters[j];
+			if (match) {
+				method.setAccessible(true);
+				return method;
+			}
+		}
+		return null;
+	}
+
+	private static final ViewFinder ACTIVITY = new ViewFinder() {
+		@Override
+		public View findViewById(Object source, int id) {
+			return ((Activity)source).findViewById(id);
+		}
+		@Override
+		public View rootOf(Object source) {
+			return ((Activity)source).getWindow().getDecorView();
+		}
+	};
+
+	private static final ViewFinder VIEW = new ViewFinder() {
+		@Override
+		public View findViewById(Object source, int id) {
+			return ((View)source).findViewById(id);
+		}
+		@Override
+		public View rootOf(Object source) {
+			return (View)source;
+		}
+	};
+
+	private static final ViewFinder DIALOG = new ViewFinder() {
+		@Override
+		public View findViewById(Object source, int id) {
+			return ((Dialog)source).findViewById(id);
+		}
+		@Override
+		public View rootOf(Object source) {
+			return ((Dialog)source).getWindow().getDecorView();
+		}
+	};
+
+	private static final ContextProvider SELF = new ContextProvider() {
+		@Override
+		public Context contextOf(Object source) {
+			return (Context)source;
+		}
+	};
+
+	private static final ContextProvider VIEW_CONTEXT = new ContextProvider() {
+		@Override
+		public Context contextOf(Object source) {
+			return ((View)source).getContext();
+		}
+	};
+
+	private static final ContextProvider DIALOG_CONTEXT = new ContextProvider() {
+		@Override
+		public Context contextOf(Object source) {
+			return ((Dialog)source).getContext();
+		}
+	};
+
+	private static final IntentProvider ACTIVITY_INTENT = new IntentProvider() {
+		@Override
+		public Intent intentOf(Object source) {
+			return ((Activity)source).getIntent();
+		}
+	};
+
+	private static final IntentProvider SELF_INTENT = new IntentProvider() {
+		@Override
+		public Intent intentOf(Object source) {
+			return (Intent)source;
+		}
+	};
+
+	/**
+	 * Serves {@link Fragment}s through their View and Activity. Only created on
+	 * versions which have Fragments.
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB)
+	private static class FragmentResolver {
+
+		public final ViewFinder mViewFinder = new ViewFinder() {
+			@Override
+			public View findViewById(Object source, int id) {
+				View view = ((Fragment)source).getView();
+				return view != null ? view.findViewById(id) : null;
+			}
+			@Override
+			public View rootOf(Object source) {
+				return ((Fragment)source).getView();
+			}
+		};
+
+		public final ContextProvider mContextProvider = new ContextProvider() {
+			@Override
+			public Context contextOf(Object source) {
+				return ((Fragment)source).getActivity();
+			}
+		};
+
+		public final IntentProvider mIntentProvider = new IntentProvider() {
+			@Override
+			public Intent intentOf(Object source) {
+				Activity activity = ((Fragment)source).getActivity();
+				return activity != null ? activity.getIntent() : null;
+			}
+		};
+
+	}
+
+	private static class MethodViewFinder extends ViewFinder {
+
+		private final Method mFindViewById;
+
+		public MethodViewFinder(Method findViewById) {
+			mFindViewById = findViewById;
+		}
+
+		@Override
+		public View findViewById(Object source, int id) throws Exception {
+			return (View)mFindViewById.invoke(source, id);
+		}
+
+	}
+
+	/**
+	 * Finds Views in the View returned by a getView method, as of Fragments
+	 * of the support library.
+	 */
+	private static class RootViewFinder extends ViewFinder {
+
+		private final Method mGetView;
+
+		public RootViewFinder(Method getView) {
+			mGetView = getView;
+		}
+
+		@Override
+		public View findViewById(Object source, int id) throws Exception {
+			View view = rootOf(source);
+			return view != null ? view.findViewById(id) : null;
+		}
+
+		@Override
+		public View rootOf(Object source) throws Exception {
+			return (View)mGetView.invoke(source);
+		}
+
+	}
+
+	private static class MethodContextProvider extends ContextProvider {
+
+		private final Method mGetContext;
+
+		/** Whether the source is a Context itself, used when the method returns null. */
+		private final boolean mSelf;
+
+		public MethodContextProvider(Method getContext, boolean self) {
+			mGetContext = getContext;
+			mSelf = self;
+		}
+
+		@Override
+		public Context contextOf(Object source) throws Exception {
+			Context context = (Context)mGetContext.invoke(source);
+			if (context == null && mSelf)
+				context = (Context)source;
+			return context;
+		}
+
+	}
+
+	private static class MethodIntentProvider extends IntentProvider {
+
+		private final Method mGetIntent;
+
+		/** Whether the source is an Intent itself, used when the method returns null. */
+		private final boolean mSelf;
+
+		public MethodIntentProvider(Method getIntent, boolean self) {
+			mGetIntent = getIntent;
+			mSelf = self;
+		}
+
+		@Override
+		public Intent intentOf(Object source) throws Exception {
+			Intent intent = (Intent)mGetIntent.invoke(source);
+			if (intent == null && mSelf)
+				intent = (Intent)source;
+			return intent;
+		}
+
+	}
+
+	/**
+	 * Provides the Intent of the Activity returned by a getActivity method, as
+	 * of Fragments of the support library.
+	 */
+	private static class ActivityIntentProvider extends IntentProvider {
+
+		private final Method mGetActivity;
+
+		public ActivityIntentProvider(Method getActivity) {
+			mGetActivity = getActivity;
+		}
+
+		@Override
+		public Intent intentOf(Object source) throws Exception {
+			Activity activity = (Activity)mGetActivity.invoke(source);
+			return activity != null ? activity.getIntent() : null;
+		}
+
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/SystemServices.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.WeakHashMap;
+
+import android.accounts.AccountManager;
+import android.annotation.TargetApi;
+import android.app.ActivityManager;
+import android.app.AlarmManager;
+import android.app.DownloadManager;
+import android.app.KeyguardManager;
+import android.app.NotificationManager;
+import android.app.SearchManager;
+import android.app.UiModeManager;
+import android.app.admin.DevicePolicyManager;
+import android.content.ClipboardManager;
+import android.content.Context;
+import android.hardware.SensorManager;
+import android.hardware.display.DisplayManager;
+import android.hardware.input.InputManager;
+import android.hardware.usb.UsbManager;
+import android.location.LocationManager;
+import android.media.AudioManager;
+import android.media.MediaRouter;
+import android.net.ConnectivityManager;
+import android.net.nsd.NsdManager;
+import android.net.wifi.WifiManager;
+import android.net.wifi.p2p.WifiP2pManager;
+import android.nfc.NfcManager;
+import android.os.Build;
+import android.os.DropBoxManager;
+import android.os.PowerManager;
+import android.os.UserManager;
+import android.os.Vibrator;
+import android.os.storage.StorageManager;
+import android.service.wallpaper.WallpaperService;
+import android.telephony.TelephonyManager;
+import android.view.LayoutInflater;
+import android.view.WindowManager;
+import android.view.accessibility.AccessibilityManager;
+import android.view.inputmethod.InputMethodManager;
+import android.view.textservice.TextServicesManager;
+
+/**
+ * Looks up system services for {@link Booster#bindSystemServices}. The service
+ * name of each type is found in a table built once for the running SDK level,
+ * and the services fetched from each {@link Context} are remembered, so
+ * fragments and views sharing an Activity do not ask it again.
+ */
+final class SystemServices {
+
+	/** Service names by service type, for types available on this device. */
+	private static final HashMap<Class<?>, String> sNames = buildNames();
+
+	/**
+	 * Services already fetched, by Context and name. Services are cached by
+	 * their Context, and often refer to it, so they are held weakly here to
+	 * let the Context be collected.
+	 */
+	private static final WeakHashMap<Context, HashMap<String, WeakReference<Object>>> sServices = new WeakHashMap<Context, HashMap<String, WeakReference<Object>>>();
+
+	private SystemServices() {
+	}
+
+	/**
+	 * Returns the system service of 'type' from 'context'.
+	 * 
+	 * @param context The Context to get the service from.
+	 * @param type Type of the service, such as {@link LayoutInflater}.
+	 * 
+	 */
+	public static Object get(Context context, Class<?> type) {
+		String name = sNames.get(type);
+		if (name == null)
+			throw new RuntimeException("Corresponding system service not found: " + type.getName());
+		synchronized (sServices) {
+			HashMap<String, WeakReference<Object>> services = sServices.get(context);
+			if (services == null) {
+				services = new HashMap<String, WeakReference<Object>>();
+				sServices.put(context, services);
+			}
+			WeakReference<Object> ref = services.get(name);
+			Object service = ref != null ? ref.get() : null;
+			if (service == null) {
+				service = context.getSystemService(name);
+				if (service != null)
+					services.put(name, new WeakReference<Object>(service));
+			}
+			return service;
+		}
+	}
+
+	/**
+	 * Types are only referenced after checking the SDK level which introduced
+	 * them, older devices do not have those classes.
+	 */
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR1)
+	@SuppressWarnings("deprecation")
+	private static HashMap<Class<?>, String> buildNames() {
+		HashMap<Class<?>, String> names = new HashMap<Class<?>, String>();
+		names.put(android.text.ClipboardManager.class, Context.CLIPBOARD_SERVICE);
+		names.put(WindowManager.class, Context.WINDOW_SERVICE);
+		names.put(LayoutInflater.class, Context.LAYOUT_INFLATER_SERVICE);
+		names.put(ActivityManager.class, Context.ACTIVITY_SERVICE);
+		names.put(PowerManager.class, Context.POWER_SERVICE);
+		names.put(AlarmManager.class, Context.ALARM_SERVICE);
+		names.put(NotificationManager.class, Context.NOTIFICATION_SERVICE);
+		names.put(KeyguardManager.class, Context.KEYGUARD_SERVICE);
+		names.put(LocationManager.class, Context.LOCATION_SERVICE);
+		names.put(SearchManager.class, Context.SEARCH_SERVICE);
+		names.put(SensorManager.class, Context.SENSOR_SERVICE);
+		names.put(Vibrator.class, Context.VIBRATOR_SERVICE);
+		names.put(ConnectivityManager.class, Context.CONNECTIVITY_SERVICE);
+		names.put(WifiManager.class, Context.WIFI_SERVICE);
+		names.put(AudioManager.class, Context.AUDIO_SERVICE);
+		names.put(TelephonyManager.class, Context.TELEPHONY_SERVICE);
+		names.put(InputMethodManager.class, Context.INPUT_METHOD_SERVICE);
+		names.put(AccessibilityManager.class, Context.ACCESSIBILITY_SERVICE);
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.ECLAIR)
+			return names;
+		names.put(AccountManager.class, Context.ACCOUNT_SERVICE);
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.ECLAIR_MR1)
+			return names;
+		names.put(WallpaperService.class, Context.WALLPAPER_SERVICE);
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.FROYO)
+			return names;
+		names.put(UiModeManager.class, Context.UI_MODE_SERVICE);
+		names.put(DropBoxManager.class, Context.DROPBOX_SERVICE);
+		names.put(DevicePolicyManager.class, Context.DEVICE_POLICY_SERVICE);
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.GINGERBREAD)
+			return names;
+		names.put(StorageManager.class, Context.STORAGE_SERVICE);
+		names.put(DownloadManager.class, Context.DOWNLOAD_SERVICE);
+		names.put(NfcManager.class, Context.NFC_SERVICE);
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB)
+			return names;
+		names.put(ClipboardManager.class, Context.CLIPBOARD_SERVICE);
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB_MR1)
+			return names;
+		names.put(UsbManager.class, Context.USB_SERVICE);
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB_MR2)
+			return names;
+		names.put(WifiP2pManager.class, Context.WIFI_P2P_SERVICE);
+		names.put(TextServicesManager.class, Context.TEXT_SERVICES_MANAGER_SERVICE);
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN)
+			return names;
+		names.put(NsdManager.class, Context.NSD_SERVICE);
+		names.put(MediaRouter.class, Context.MEDIA_ROUTER_SERVICE);
+		names.put(InputManager.class, Context.INPUT_SERVICE);
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR1)
+			return names;
+		names.put(DisplayManager.class, Context.DISPLAY_SERVICE);
+		names.put(UserManager.class, Context.USER_SERVICE);
+		return names;
+	}
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/Unbinder.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+/**
+ * Undoes a bind: removes the listeners registered by
+ * {@link Booster#bindListeners(Object, Class, Object)} or
+ * {@link Booster#bind(Object, Class, Object)}, drops their debounced events
+ * and sets the View fields set by the bind to null. The listeners are
+ * recorded during the bind, so unbinding touches exactly the bound members,
+ * and neither scans the class nor looks up Views again. Call
+ * {@link #unbind()} on the UI thread, for example in
+ * {@code Fragment.onDestroyView()}, so that the Views can be reused or
+ * collected.
+ */
+public final class Unbinder {
+
+	/** Unbinds nothing. */
+	static final Unbinder EMPTY = new Unbinder(null, null, false, null);
+
+	private final BindingPlan mPlan;
+
+	private Object mTarget;
+
+	private final boolean mFields;
+
+	private Booster.BoundListener[] mListeners;
+
+	/**
+	 * @param plan The plan of the bind.
+	 * @param target The bound object.
+	 * @param fields Whether the View fields of the plan were set.
+	 * @param listeners The registered listeners, or null.
+	 */
+	Unbinder(BindingPlan plan, Object target, boolean fields, Booster.BoundListener[] listeners) {
+		mPlan = plan;
+		mTarget = target;
+		mFields = fields;
+		mListeners = listeners;
+	}
+
+	/**
+	 * Removes the listeners and sets the View fields to null. Calling this more
+	 * than once has no further effect.
+	 */
+	public void unbind() {
+		Object target = mTarget;
+		if (target == null)
+			return;
+		mTarget = null;
+		Booster.BoundListener[] listeners = mListeners;
+		mListeners = null;
+		if (listeners != null) {
+			for (int i = 0, c = listeners.length; i < c; ++i)
+				listeners[i].unregister();
+		}
+		if (mFields) {
+			try {
+				clearFields(mPlan.mViews, target);
+				clearFields(mPlan.mLayouts, target);
+			} catch (Exception e) {
+				throw new RuntimeException("Failed to unbind " + mPlan.mTargetClass.getName(), e);
+			}
+		}
+	}
+
+	private static void clearFields(BindingPlan.ViewBinding[] views, Object target) throws Exception {
+		for (int i = 0, c = views.length; i < c; ++i)
+			views[i].mField.set(target, null);
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/ViewLookup.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.util.Arrays;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+/**
+ * Finds the {@link View}s of a {@link BindingPlan} in a source. When the plan
+ * needs several Views and the root View of the source is known, all of them
+ * are collected by a single walk of the view tree instead of one findViewById
+ * walk per id. Like findViewById, the first View with an id in depth-first
+ * order wins.
+ */
+final class ViewLookup {
+
+	/** Fewer ids than this are found one by one. */
+	private static final int BATCH_THRESHOLD = 3;
+
+	public final Object mSource;
+
+	public final SourceResolver.ViewFinder mViewFinder;
+
+	private final int[] mIds;
+
+	private View mRoot;
+
+	private View[] mViews;
+
+	public ViewLookup(Object source, int[] ids) throws Exception {
+		mSource = source;
+		mViewFinder = SourceResolver.of(source.getClass()).mViewFinder;
+		if (mViewFinder == null)
+			throw new RuntimeException("findViewById not found.");
+		mIds = ids;
+		mRoot = ids.length >= BATCH_THRESHOLD ? mViewFinder.rootOf(source) : null;
+	}
+
+	/**
+	 * Returns the View with 'id', or null if there is no such View. The tree is
+	 * walked on the first call.
+	 */
+	public View find(int id) throws Exception {
+		if (mRoot != null) {
+			mViews = new View[mIds.length];
+			collect(mRoot, mIds.length);
+			mRoot = null;
+		}
+		if (mViews != null) {
+			int index = Arrays.binarySearch(mIds, id);
+			if (index >= 0)
+				return mViews[index];
+		}
+		return mViewFinder.findViewById(mSource, id);
+	}
+
+	/**
+	 * Walks the tree of 'view' and stores the Views with wanted ids. Returns the
+	 * number of ids still not found, the walk stops when it reaches 0.
+	 */
+	private int collect(View view, int remaining) {
+		int id = view.getId();
+		if (id != View.NO_ID) {
+			int index = Arrays.binarySearch(mIds, id);
+			if (index >= 0 && mViews[index] == null) {
+				mViews[index] = view;
+				if (--remaining == 0)
+					return 0;
+			}
+		}
+		if (view instanceof ViewGroup) {
+			ViewGroup group = (ViewGroup)view;
+			for (int i = 0, c = group.getChildCount(); i < c && remaining != 0; ++i)
+				remaining = collect(group.getChildAt(i), remaining);
+		}
+		return remaining;
+	}
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/ViewPool.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.ListIterator;
+
+import android.content.Context;
+import android.util.SparseArray;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+
+/**
+ * A pool of {@link View}s inflated for
+ * {@link com.iwares.lib.booster.annotation.ViewFromLayout} fields. Pooling is
+ * enabled per layout with {@link #setCapacity(int, int)}. Once enabled,
+ * {@link Booster#inflateLayouts(Object, Class, Object)} takes Views of that
+ * layout from the pool before inflating new ones, and
+ * {@link Booster#recycleLayouts(Object, Class)} puts them back.
+ * 
+ * Each pooled View is weighed by the number of Views in its tree. When the
+ * total weight exceeds {@link #setMaxWeight(int)}, the least recently
+ * recycled Views are evicted first.
+ * 
+ * Views are pooled and handed out as they are, without resetting them: they
+ * keep their text, scroll position, visibility, pressed state, listeners and
+ * any other state they had when recycled. Targets must set the state they
+ * rely on after inflating.
+ * 
+ * Pooled Views keep their Context alive. Call {@link #clear(Context)} when a
+ * Context, such as an Activity, is destroyed.
+ */
+public final class ViewPool {
+
+	private static final int DEFAULT_MAX_WEIGHT = 1024;
+
+	private static final SparseArray<Integer> sCapacities = new SparseArray<Integer>();
+
+	private static final SparseArray<Integer> sCounts = new SparseArray<Integer>();
+
+	private static final LinkedList<Entry> sEntries = new LinkedList<Entry>();
+
+	private static int sMaxWeight = DEFAULT_MAX_WEIGHT;
+
+	private static int sWeight;
+
+	private static int sHitCount;
+
+	private static int sMissCount;
+
+	private static int sEvictionCount;
+
+	private ViewPool() {
+	}
+
+	private static final class Entry {
+
+		public final int mLayoutId;
+
+		public final View mView;
+
+		public final int mWeight;
+
+		public Entry(int layoutId, View view, int weight) {
+			mLayoutId = layoutId;
+			mView = view;
+			mWeight = weight;
+		}
+
+	}
+
+	/**
+	 * Enables pooling of Views inflated from 'layoutId'. At most 'capacity'
+	 * Views of the layout are kept. A capacity of 0 disables pooling of the
+	 * layout and drops its pooled Views.
+	 * 
+	 * @param layoutId Id of the layout.
+	 * @param capacity Maximum number of pooled Views of the layout.
+	 * 
+	 */
+	public static synchronized void setCapacity(int layoutId, int capacity) {
+		if (capacity > 0)
+			sCapacities.put(layoutId, capacity);
+		else
+			sCapacities.remove(layoutId);
+		trim(layoutId, capacity);
+	}
+
+	/**
+	 * Sets the maximum total weight of pooled Views. The weight of a View is the
+	 * number of Views in its tree.
+	 * 
+	 * @param maxWeight Maximum total weight.
+	 * 
+	 */
+	public static synchronized void setMaxWeight(int maxWeight) {
+		sMaxWeight = maxWeight;
+		evict();
+	}
+
+	/**
+	 * Returns a pooled View of 'layoutId' inflated with 'context', or null.
+	 */
+	static synchronized View obtain(Context context, int layoutId) {
+		if (sCapacities.get(layoutId) == null)
+			return null;
+		// Take the most recently recycled View.
+		ListIterator<Entry> iterator = sEntries.listIterator(sEntries.size());
+		while (iterator.hasPrevious()) {
+			Entry entry = iterator.previous();
+			if (entry.mLayoutId != layoutId || entry.mView.getContext() != context)
+				continue;
+			iterator.remove();
+			sWeight -= entry.mWeight;
+			sCounts.put(layoutId, sCounts.get(layoutId) - 1);
+			++sHitCount;
+			return entry.mView;
+		}
+		++sMissCount;
+		return null;
+	}
+
+	/**
+	 * Detaches 'view' from its parent and puts it into the pool, if pooling of
+	 * 'layoutId' is enabled and the pool of the layout is not full.
+	 */
+	static synchronized void recycle(int layoutId, View view) {
+		Integer capacity = sCapacities.get(layoutId);
+		if (capacity == null)
+			return;
+		Integer count = sCounts.get(layoutId);
+		if (count == null)
+			count = 0;
+		if (count >= capacity)
+			return;
+		ViewParent parent = view.getParent();
+		if (parent instanceof ViewGroup)
+			((ViewGroup)parent).removeView(view);
+		Entry entry = new Entry(layoutId, view, weightOf(view));
+		sEntries.addLast(entry);
+		sWeight += entry.mWeight;
+		sCounts.put(layoutId, count + 1);
+		evict();
+	}
+
+	/**
+	 * Drops all pooled Views inflated with 'context'.
+	 * 
+	 * @param context The Context, usually an Activity being destroyed.
+	 * 
+	 */
+	public static synchronized void clear(Context context) {
+		Iterator<Entry> iterator = sEntries.iterator();
+		while (iterator.hasNext()) {
+			Entry entry = iterator.next();
+			if (entry.mView.getContext() == context)
+				remove(iterator, entry);
+		}
+	}
+
+	/**
+	 * Drops all pooled Views.
+	 */
+	public static synchronized void clear() {
+		sEntries.clear();
+		sCounts.clear();
+		sWeight = 0;
+	}
+
+	/**
+	 * Returns the number of Views taken from the pool.
+	 */
+	public static synchronized int getHitCount() {
+		return sHitCount;
+	}
+
+	/**
+	 * Returns the number of Views of pooled layouts which had to be inflated.
+	 */
+	public static synchronized int getMissCount() {
+		return sMissCount;
+	}
+
+	/**
+	 * Returns the number of Views evicted because of the weight limit.
+	 */
+	public static synchronized int getEvictionCount() {
+		return sEvictionCount;
+	}
+
+	/**
+	 * Returns the total weight of pooled Views.
+	 */
+	public static synchronized int getWeight() {
+		return sWeight;
+	}
+
+	private static void trim(int layoutId, int capacity) {
+		Integer count = sCounts.get(layoutId);
+		if (count == null || count <= capacity)
+			return;
+		// Drop the least recently recycled Views of the layout.
+		int excess = count - Math.max(capacity, 0);
+		Iterator<Entry> iterator = sEntries.iterator();
+		while (excess > 0 && iterator.hasNext()) {
+			Entry entry = iterator.next();
+			if (entry.mLayoutId != layoutId)
+				continue;
+			remove(iterator, entry);
+			--excess;
+		}
+	}
+
+	private static void evict() {
+		Iterator<Entry> iterator = sEntries.iterator();
+		while (sWeight > sMaxWeight && iterator.hasNext()) {
+			remove(iterator, iterator.next());
+			++sEvictionCount;
+		}
+	}
+
+	private static void remove(Iterator<Entry> iterator, Entry entry) {
+		iterator.remove();
+		sWeight -= entry.mWeight;
+		sCounts.put(entry.mLayoutId, sCounts.get(entry.mLayoutId) - 1);
+	}
+
+	private static int weightOf(View view) {
+		int weight = 1;
+		if (view instanceof ViewGroup) {
+			ViewGroup group = (ViewGroup)view;
+			for (int i = 0, c = group.getChildCount(); i < c; ++i)
+				weight += weightOf(group.getChildAt(i));
+		}
+		return weight;
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2013 iWARES Solution Provider
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+/**
+ * @file	src/com/iwares/lib/booster/core/Workers.java
+ * @author	Eric.Tsai
+ *
+ */
+
+
+package com.iwares.lib.booster.core;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+
+/**
+ * Creates the background thread pools of Booster. Threads are daemons of the
+ * given Linux priority, and on Android 2.3 and later idle threads are stopped
+ * after a while. Also holds the Handler which posts work back to the main thread.
+ */
+final class Workers {
+
+	private static final long KEEP_ALIVE_SECONDS = 10;
+
+	private static Handler sMainHandler;
+
+	private Workers() {
+	}
+
+	/**
+	 * Creates a pool of at most 'threads' threads named 'name'-N, running at
+	 * 'priority', one of the THREAD_PRIORITY_ constants of
+	 * {@link android.os.Process}. Work the UI thread may wait for should not use
+	 * a priority lower than {@link Process#THREAD_PRIORITY_BACKGROUND}.
+	 */
+	public static ThreadPoolExecutor newPool(final String name, int threads, final int priority) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+					private final AtomicInteger mCount = new AtomicInteger();
+					@Override
+					public Thread newThread(final Runnable r) {
+						Thread thread = new Thread(new Runnable() {
+							@Override
+							public void run() {
+								Process.setThreadPriority(priority);
+								r.run();
+							}
+						}, name + "-" + mCount.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.GINGERBREAD)
+			allowCoreThreadTimeOut(executor);
+		return executor;
+	}
+
+	public static synchronized Handler mainHandler() {
+		if (sMainHandler == null)
+			sMainHandler = new Handler(Looper.getMainLooper());
+		return sMainHandler;
+	}
+
+	@TargetApi(Build.VERSION_CODES.GINGERBREAD)
+	private static void allowCoreThreadTimeOut(ThreadPoolExecutor executor) {
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+}